@@ -0,0 +1,106 @@
+// 익명 상품 카탈로그 트래픽에서 Caddy 공유 캐시 / 압축 / ETag 효과 확인용 부하 테스트
+//
+// 실행 예 (README "리버스 프록시 및 HTTPS" 참고):
+//   SITE_ADDRESS=:80 docker compose up -d --build
+//   k6 run -e BASE_URL=http://localhost loadtest/k6/catalog-offload.js       # Caddy 경유
+//   k6 run -e BASE_URL=http://localhost:8080 loadtest/k6/catalog-offload.js  # 앱 직접 (비교 기준)
+//
+// 두 시나리오를 동시에 돌립니다.
+//   - browse      : 목록(자주 쓰는 필터/정렬 조합)과 상세 조회. 매번 새 클라이언트처럼 조건부 헤더 없이 요청
+//   - revalidate  : 한 번 받은 ETag 를 If-None-Match 로 보내는 폴링 클라이언트 (304 비율)
+// 결과에서 볼 지표:
+//   - edge_cache_hits   : Caddy 가 origin 없이 응답한 비율 (Cache-Status 헤더의 hit)
+//   - not_modified      : 304 비율
+//   - data_received     : 받은 바이트 (압축/304 효과)
+// origin 부하는 관리 포트의 http_server_requests_seconds_count{uri="/api/v1/products"} 증가량으로 두 실행을 비교합니다.
+import http from 'k6/http';
+import { check } from 'k6';
+import { Rate } from 'k6/metrics';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost';
+const RATE = Number(__ENV.RATE || 200);
+const DURATION = __ENV.DURATION || '1m';
+const PRODUCT_IDS = Number(__ENV.PRODUCT_IDS || 50);
+const ACCEPT_ENCODING = __ENV.ACCEPT_ENCODING || 'gzip';
+
+const LIST_QUERIES = [
+  '',
+  '?limit=20',
+  '?page=2&limit=20',
+  '?sort=price&order=asc',
+  '?sort=name&order=asc',
+  '?exclude_sold_out=true',
+  '?status=ACTIVE&cursor=',
+];
+
+const edgeCacheHits = new Rate('edge_cache_hits');
+const notModified = new Rate('not_modified');
+
+export const options = {
+  scenarios: {
+    browse: {
+      executor: 'constant-arrival-rate',
+      exec: 'browse',
+      rate: RATE,
+      timeUnit: '1s',
+      duration: DURATION,
+      preAllocatedVUs: 100,
+      maxVUs: 1000,
+    },
+    revalidate: {
+      executor: 'constant-arrival-rate',
+      exec: 'revalidate',
+      rate: Math.max(1, Math.floor(RATE / 4)),
+      timeUnit: '1s',
+      duration: DURATION,
+      preAllocatedVUs: 50,
+      maxVUs: 500,
+    },
+  },
+  thresholds: {
+    'http_req_duration{scenario:browse}': ['p(95)<500'],
+  },
+};
+
+function pick(values) {
+  return values[Math.floor(Math.random() * values.length)];
+}
+
+function randomPath() {
+  if (Math.random() < 0.6) {
+    return `/api/v1/products${pick(LIST_QUERIES)}`;
+  }
+  return `/api/v1/products/${1 + Math.floor(Math.random() * PRODUCT_IDS)}`;
+}
+
+function record(res) {
+  const cacheStatus = res.headers['Cache-Status'] || '';
+  edgeCacheHits.add(/;\s*hit/i.test(cacheStatus));
+  notModified.add(res.status === 304);
+}
+
+export function browse() {
+  const res = http.get(`${BASE_URL}${randomPath()}`, {
+    headers: { 'Accept-Encoding': ACCEPT_ENCODING },
+    tags: { name: 'catalog' },
+  });
+  record(res);
+  check(res, { 'catalog 200': (r) => r.status === 200 || r.status === 404 });
+}
+
+// VU 마다 경로별 ETag 를 기억해 두고 다음 요청에 If-None-Match 로 보냄
+const etags = {};
+
+export function revalidate() {
+  const path = randomPath();
+  const headers = { 'Accept-Encoding': ACCEPT_ENCODING };
+  if (etags[path]) {
+    headers['If-None-Match'] = etags[path];
+  }
+  const res = http.get(`${BASE_URL}${path}`, { headers, tags: { name: 'catalog_revalidate' } });
+  record(res);
+  if (res.headers.Etag) {
+    etags[path] = res.headers.Etag;
+  }
+  check(res, { 'revalidate 200/304': (r) => r.status === 200 || r.status === 304 || r.status === 404 });
+}
@@ -0,0 +1,81 @@
+// 플랫폼 스레드 풀 vs 가상 스레드 비교용 부하 테스트
+//
+// 실행 예 (README "가상 스레드 모드" 참고):
+//   k6 run -e BASE_URL=http://localhost:8080 loadtest/k6/virtual-threads.js
+//
+// 두 시나리오를 동시에 돌립니다.
+//   - admin_upload : 관리자 상품 등록 + 이미지 업로드 (S3 putObject 동기 대기)
+//   - slow_search  : 한 글자 검색어(FULLTEXT 대신 LIKE 풀 스캔) 상품 목록 조회
+// 요청 도착률을 고정(constant-arrival-rate)하므로, 스레드 풀이 막히면 대기열이 쌓여
+// http_req_duration p95 와 dropped_iterations 가 늘어납니다. 가상 스레드 모드에서는 DB 커넥션 풀만 상한이 됩니다.
+import http from 'k6/http';
+import { check } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const ADMIN_EMAIL = __ENV.ADMIN_EMAIL || 'admin@gdg.com';
+const ADMIN_PASSWORD = __ENV.ADMIN_PASSWORD || 'admin123';
+const RATE = Number(__ENV.RATE || 300);
+const DURATION = __ENV.DURATION || '1m';
+
+// 약 200KB 더미 이미지
+const IMAGE = new Uint8Array(200 * 1024).map((_, i) => i % 256).buffer;
+
+export const options = {
+  scenarios: {
+    admin_upload: {
+      executor: 'constant-arrival-rate',
+      exec: 'adminUpload',
+      rate: Math.max(1, Math.floor(RATE / 10)),
+      timeUnit: '1s',
+      duration: DURATION,
+      preAllocatedVUs: 100,
+      maxVUs: 1000,
+    },
+    slow_search: {
+      executor: 'constant-arrival-rate',
+      exec: 'slowSearch',
+      rate: RATE,
+      timeUnit: '1s',
+      duration: DURATION,
+      preAllocatedVUs: 200,
+      maxVUs: 2000,
+    },
+  },
+  thresholds: {
+    'http_req_duration{scenario:slow_search}': ['p(95)<2000'],
+    'http_req_duration{scenario:admin_upload}': ['p(95)<5000'],
+  },
+};
+
+export function setup() {
+  const res = http.post(
+    `${BASE_URL}/api/v1/auth/login`,
+    JSON.stringify({ email: ADMIN_EMAIL, password: ADMIN_PASSWORD }),
+    { headers: { 'Content-Type': 'application/json' } },
+  );
+  check(res, { 'login 200': (r) => r.status === 200 });
+  return { token: res.json('data.access_token') };
+}
+
+export function adminUpload(data) {
+  const body = {
+    request: http.file(
+      JSON.stringify({ name: `부하테스트 상품 ${__VU}-${__ITER}`, description: 'k6', price: 1000, stock: 1 }),
+      'request.json',
+      'application/json',
+    ),
+    image: http.file(IMAGE, 'image.png', 'image/png'),
+  };
+  const res = http.post(`${BASE_URL}/api/v1/admin/products`, body, {
+    headers: { Authorization: `Bearer ${data.token}` },
+    tags: { name: 'admin_upload' },
+  });
+  check(res, { 'upload 201': (r) => r.status === 201 });
+}
+
+export function slowSearch() {
+  const res = http.get(`${BASE_URL}/api/v1/products?search=a&limit=20`, {
+    tags: { name: 'slow_search' },
+  });
+  check(res, { 'search 200': (r) => r.status === 200 });
+}
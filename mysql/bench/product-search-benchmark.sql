@@ -0,0 +1,87 @@
+-- 상품 검색 LIKE vs FULLTEXT(ngram) 비교용 벤치마크
+-- 실행: docker exec -i <mysql 컨테이너> mysql -uroot -p<비밀번호> < mysql/bench/product-search-benchmark.sql
+-- 운영 스키마(team1)를 건드리지 않도록 별도 스키마(team1_bench)에 100만 건을 생성합니다.
+SET NAMES utf8mb4;
+
+DROP DATABASE IF EXISTS team1_bench;
+CREATE DATABASE team1_bench DEFAULT CHARACTER SET utf8mb4 COLLATE utf8mb4_unicode_ci;
+use team1_bench;
+
+CREATE TABLE products (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    name VARCHAR(255) NOT NULL,
+    description TEXT,
+    price DECIMAL(10, 2) NOT NULL,
+    stock INT NOT NULL DEFAULT 0,
+    product_status VARCHAR(50) NOT NULL DEFAULT 'ACTIVE',
+    image_url TEXT NULL,
+    version BIGINT NOT NULL DEFAULT 0,
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
+    INDEX idx_status (product_status)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+-- 100만 건 생성 (단어 조합으로 상품명/설명 구성)
+SET SESSION cte_max_recursion_depth = 1000001;
+INSERT INTO products (name, description, price, stock, product_status)
+WITH RECURSIVE seq (n) AS (
+    SELECT 1
+    UNION ALL
+    SELECT n + 1 FROM seq WHERE n < 1000000
+)
+SELECT
+    CONCAT(
+        ELT(1 + (n % 10), '프리미엄', '베이직', '휴대용', '대용량', '미니', '고급', '친환경', '디자인', '사무용', '학생용'), ' ',
+        ELT(1 + ((n DIV 10) % 10), '노트', '볼펜', '형광펜', '다이어리', '파일', '스테이플러', '연필', '지우개', '메모지', '가위'), ' ',
+        n
+    ),
+    CONCAT(
+        ELT(1 + ((n DIV 100) % 8), '80매 라인', '무지', '6색', '검정', '방안', '하드커버', '스프링', '리필용'), ' ',
+        ELT(1 + ((n DIV 800) % 6), '세트', '단품', '묶음', '패키지', '한정판', '기획상품')
+    ),
+    1000 + (n % 50) * 100,
+    n % 200,
+    IF(n % 17 = 0, 'SOLD_OUT', 'ACTIVE')
+FROM seq;
+
+ANALYZE TABLE products;
+
+-- 1) 인덱스 없이 LIKE '%키워드%' (풀 스캔)
+EXPLAIN ANALYZE
+SELECT id, name FROM products
+WHERE name LIKE '%스테이플러%' OR description LIKE '%스테이플러%'
+ORDER BY created_at DESC LIMIT 20;
+
+EXPLAIN ANALYZE
+SELECT COUNT(*) FROM products
+WHERE name LIKE '%스테이플러%' OR description LIKE '%스테이플러%';
+
+-- 2) FULLTEXT(ngram) 인덱스 생성 후 MATCH ... AGAINST (애플리케이션과 같은 구문 검색 + LIKE 재확인)
+--    마이그레이션 V7 과 같이 불용어 없이 생성
+SET SESSION innodb_ft_enable_stopword = OFF;
+ALTER TABLE products ADD FULLTEXT INDEX ft_name_description (name, description) WITH PARSER ngram;
+
+EXPLAIN ANALYZE
+SELECT id, name FROM products
+WHERE MATCH(name, description) AGAINST ('"스테이플러"' IN BOOLEAN MODE) > 0
+  AND (name LIKE '%스테이플러%' OR description LIKE '%스테이플러%')
+ORDER BY created_at DESC LIMIT 20;
+
+EXPLAIN ANALYZE
+SELECT COUNT(*) FROM products
+WHERE MATCH(name, description) AGAINST ('"스테이플러"' IN BOOLEAN MODE) > 0
+  AND (name LIKE '%스테이플러%' OR description LIKE '%스테이플러%');
+
+-- 관련도 정렬 (sort=relevance)
+EXPLAIN ANALYZE
+SELECT id, name FROM products
+WHERE MATCH(name, description) AGAINST ('"스테이플러"' IN BOOLEAN MODE) > 0
+  AND (name LIKE '%스테이플러%' OR description LIKE '%스테이플러%')
+ORDER BY MATCH(name, description) AGAINST ('"스테이플러"' IN BOOLEAN MODE) DESC, id DESC
+LIMIT 20;
+
+-- 결과 건수 동일 여부 확인 (두 값이 같아야 함)
+SELECT
+    (SELECT COUNT(*) FROM products WHERE name LIKE '%스테이플러%' OR description LIKE '%스테이플러%') AS like_count,
+    (SELECT COUNT(*) FROM products WHERE MATCH(name, description) AGAINST ('"스테이플러"' IN BOOLEAN MODE) > 0
+       AND (name LIKE '%스테이플러%' OR description LIKE '%스테이플러%')) AS fulltext_count;
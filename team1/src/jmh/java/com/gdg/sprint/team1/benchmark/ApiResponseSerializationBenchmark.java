@@ -0,0 +1,68 @@
+package com.gdg.sprint.team1.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import tools.jackson.databind.PropertyNamingStrategies;
+import tools.jackson.databind.json.JsonMapper;
+
+import com.gdg.sprint.team1.common.ApiResponse;
+import com.gdg.sprint.team1.common.ResponseSerializers;
+import com.gdg.sprint.team1.dto.order.OrderResponse;
+import com.gdg.sprint.team1.entity.Order;
+import com.gdg.sprint.team1.entity.Product;
+import com.gdg.sprint.team1.entity.User;
+
+/**
+ * Spring MVC 응답과 같은 경로로 ApiResponse 직렬화: Jackson 3 JsonMapper
+ * (spring.jackson.property-naming-strategy=SNAKE_CASE + BinaryFormatConfig 가 등록하는 ResponseSerializers 모듈)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ApiResponseSerializationBenchmark {
+
+    @Param({"10", "100"})
+    int orderCount;
+
+    private JsonMapper jsonMapper;
+    private ApiResponse<List<OrderResponse>> response;
+    private ApiResponse<Object> failure;
+
+    @Setup
+    public void setUp() {
+        jsonMapper = JsonMapper.builder()
+            .propertyNamingStrategy(PropertyNamingStrategies.SNAKE_CASE)
+            .addModule(ResponseSerializers.module())
+            .build();
+        User user = BenchmarkFixtures.user(1);
+        List<Product> products = BenchmarkFixtures.products(3);
+        List<OrderResponse> orders = new ArrayList<>(orderCount);
+        for (int i = 1; i <= orderCount; i++) {
+            Order order = BenchmarkFixtures.order(i, user, products);
+            orders.add(OrderResponse.from(order));
+        }
+        response = ApiResponse.success(orders);
+        failure = ApiResponse.failure("INVALID_ARGUMENT", "잘못된 요청입니다.");
+    }
+
+    @Benchmark
+    public byte[] successResponse() {
+        return jsonMapper.writeValueAsBytes(response);
+    }
+
+    @Benchmark
+    public byte[] failureResponse() {
+        return jsonMapper.writeValueAsBytes(failure);
+    }
+}
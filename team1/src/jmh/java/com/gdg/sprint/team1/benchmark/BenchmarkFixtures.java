@@ -0,0 +1,82 @@
+package com.gdg.sprint.team1.benchmark;
+
+import java.lang.reflect.Field;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.gdg.sprint.team1.domain.cart.CartItem;
+import com.gdg.sprint.team1.entity.Order;
+import com.gdg.sprint.team1.entity.OrderItem;
+import com.gdg.sprint.team1.entity.Product;
+import com.gdg.sprint.team1.entity.User;
+
+/**
+ * 벤치마크용 인메모리 데이터. DB 없이 엔티티를 만들기 위해 id 등은 리플렉션으로 채웁니다.
+ */
+final class BenchmarkFixtures {
+
+    private BenchmarkFixtures() {}
+
+    static List<Product> products(int count) {
+        List<Product> products = new ArrayList<>(count);
+        for (int i = 1; i <= count; i++) {
+            Product product = Product.create(
+                "상품 " + i,
+                "벤치마크용 상품 설명 " + i,
+                BigDecimal.valueOf(1000L + i * 150L),
+                100 + i,
+                null
+            );
+            setField(product, "id", (long) i);
+            products.add(product);
+        }
+        return products;
+    }
+
+    static User user(int id) {
+        User user = User.create("bench" + id + "@gdg.com", "encoded", "Bench", "010-0000-0000", "서울시 강남구");
+        user.setId(id);
+        return user;
+    }
+
+    static Order order(int orderId, User user, List<Product> products) {
+        Order order = Order.create(
+            user,
+            null,
+            new BigDecimal("45000.00"),
+            new BigDecimal("3000.00"),
+            BigDecimal.ZERO.setScale(2),
+            new BigDecimal("42000.00"),
+            "홍길동",
+            "010-1234-5678",
+            "서울특별시 강남구 테헤란로 123",
+            "456호",
+            "문 앞에 놓아주세요"
+        );
+        setField(order, "id", orderId);
+        for (int i = 0; i < products.size(); i++) {
+            Product product = products.get(i);
+            order.addOrderItem(new OrderItem(order, product, i % 3 + 1, product.getPrice()));
+        }
+        return order;
+    }
+
+    static List<CartItem> cartItems(Integer userId, List<Product> products) {
+        List<CartItem> items = new ArrayList<>(products.size());
+        for (int i = 0; i < products.size(); i++) {
+            items.add(new CartItem(userId, products.get(i).getId(), i % 3 + 1));
+        }
+        return items;
+    }
+
+    static void setField(Object target, String name, Object value) {
+        try {
+            Field field = target.getClass().getDeclaredField(name);
+            field.setAccessible(true);
+            field.set(target, value);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
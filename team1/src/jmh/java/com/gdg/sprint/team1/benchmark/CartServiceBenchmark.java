@@ -0,0 +1,109 @@
+package com.gdg.sprint.team1.benchmark;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import com.gdg.sprint.team1.cache.CartViewCache;
+import com.gdg.sprint.team1.cache.InMemoryRemoteCache;
+import com.gdg.sprint.team1.cache.ProductDetailCache;
+import com.gdg.sprint.team1.cache.RemoteCache;
+import com.gdg.sprint.team1.cache.TwoLevelCacheFactory;
+import com.gdg.sprint.team1.config.OpenApiConfig;
+import com.gdg.sprint.team1.domain.cart.CartItem;
+import com.gdg.sprint.team1.dto.cart.CartResponse;
+import com.gdg.sprint.team1.entity.Product;
+import com.gdg.sprint.team1.repository.ProductRepository;
+import com.gdg.sprint.team1.repository.cart.CartStore;
+import com.gdg.sprint.team1.service.CartService;
+
+/**
+ * 장바구니 조회(getCart). 저장소/리포지토리는 인메모리 프록시로 대체해 DB 비용을 제외하고 계산 부분만 측정합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class CartServiceBenchmark {
+
+    private static final Integer USER_ID = 1;
+
+    @Param({"1", "10", "50"})
+    int cartSize;
+
+    private CartService cartService;
+    private CartViewCache cartViewCache;
+
+    @Setup
+    public void setUp() {
+        List<Product> products = BenchmarkFixtures.products(cartSize);
+        List<CartItem> cartItems = BenchmarkFixtures.cartItems(USER_ID, products);
+        Map<Long, Product> productById = new HashMap<>();
+        products.forEach(p -> productById.put(p.getId(), p));
+
+        CartStore cartStore = repository(CartStore.class, (method, args) ->
+            switch (method) {
+                case "findAll" -> cartItems;
+                default -> throw new UnsupportedOperationException(method);
+            });
+        ProductRepository productRepository = repository(ProductRepository.class, (method, args) ->
+            switch (method) {
+                case "findAllById" -> {
+                    List<Product> found = new ArrayList<>();
+                    for (Object id : (Iterable<?>) args[0]) {
+                        Product product = productById.get((Long) id);
+                        if (product != null) found.add(product);
+                    }
+                    yield found;
+                }
+                default -> throw new UnsupportedOperationException(method);
+            });
+        RemoteCache remoteCache = new InMemoryRemoteCache(10_000);
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        TwoLevelCacheFactory cacheFactory = new TwoLevelCacheFactory(
+            remoteCache, new OpenApiConfig().objectMapper(), meterRegistry, 60);
+        ProductDetailCache productDetailCache = new ProductDetailCache(cacheFactory, 10_000, 60);
+        cartViewCache = new CartViewCache(productDetailCache, remoteCache, meterRegistry, 10_000, 1800);
+        cartService = new CartService(cartStore, productRepository, null, cartViewCache);
+    }
+
+    /** 계산된 장바구니 재사용 (일반적인 조회) */
+    @Benchmark
+    public CartResponse getCart() {
+        return cartService.getCart(USER_ID).body();
+    }
+
+    /** 매번 전체 다시 계산 (계산된 장바구니가 없을 때) */
+    @Benchmark
+    public CartResponse getCartRecompute() {
+        cartViewCache.evict(USER_ID);
+        return cartService.getCart(USER_ID).body();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T repository(Class<T> type, RepositoryMethod handler) {
+        return (T) Proxy.newProxyInstance(
+            type.getClassLoader(),
+            new Class<?>[] {type},
+            (proxy, method, args) -> handler.invoke(method.getName(), args)
+        );
+    }
+
+    @FunctionalInterface
+    private interface RepositoryMethod {
+        Object invoke(String method, Object[] args);
+    }
+}
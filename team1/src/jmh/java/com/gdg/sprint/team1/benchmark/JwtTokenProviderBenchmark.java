@@ -0,0 +1,46 @@
+package com.gdg.sprint.team1.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.gdg.sprint.team1.config.JwtProperties;
+import com.gdg.sprint.team1.entity.User.UserRole;
+import com.gdg.sprint.team1.security.JwtTokenProvider;
+
+/** 인증이 필요한 모든 요청에서 실행되는 토큰 파싱과 로그인/재발급 시 토큰 생성 */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtTokenProviderBenchmark {
+
+    private JwtTokenProvider provider;
+    private String accessToken;
+
+    @Setup
+    public void setUp() {
+        provider = new JwtTokenProvider(new JwtProperties());
+        accessToken = provider.createToken(1, UserRole.USER);
+    }
+
+    @Benchmark
+    public String createToken() {
+        return provider.createToken(1, UserRole.USER);
+    }
+
+    @Benchmark
+    public JwtTokenProvider.TokenPayload parseToken() {
+        return provider.parseToken(accessToken);
+    }
+
+    @Benchmark
+    public JwtTokenProvider.TokenPayload parseTokenCached() {
+        return provider.parseTokenCached(accessToken);
+    }
+}
@@ -0,0 +1,58 @@
+package com.gdg.sprint.team1.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.gdg.sprint.team1.dto.order.OrderDetailResponse;
+import com.gdg.sprint.team1.dto.order.OrderResponse;
+import com.gdg.sprint.team1.entity.Order;
+import com.gdg.sprint.team1.entity.Product;
+import com.gdg.sprint.team1.entity.User;
+
+/** 주문 목록(페이지 단위)/상세 응답 DTO 변환 */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class OrderResponseMappingBenchmark {
+
+    @Param({"1", "5", "20"})
+    int itemsPerOrder;
+
+    private List<Order> page;
+    private Order detail;
+
+    @Setup
+    public void setUp() {
+        User user = BenchmarkFixtures.user(1);
+        List<Product> products = BenchmarkFixtures.products(itemsPerOrder);
+        page = new ArrayList<>();
+        for (int i = 1; i <= 10; i++) {
+            page.add(BenchmarkFixtures.order(i, user, products));
+        }
+        detail = page.get(0);
+    }
+
+    @Benchmark
+    public List<OrderResponse> orderResponsePage() {
+        List<OrderResponse> responses = new ArrayList<>(page.size());
+        for (Order order : page) {
+            responses.add(OrderResponse.from(order));
+        }
+        return responses;
+    }
+
+    @Benchmark
+    public OrderDetailResponse orderDetailResponse() {
+        return OrderDetailResponse.from(detail);
+    }
+}
@@ -0,0 +1,78 @@
+package com.gdg.sprint.team1.benchmark;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.gdg.sprint.team1.dto.pricing.CouponInfo;
+import com.gdg.sprint.team1.dto.pricing.CouponType;
+import com.gdg.sprint.team1.dto.pricing.PriceCalculationResult;
+import com.gdg.sprint.team1.dto.pricing.PriceItem;
+import com.gdg.sprint.team1.service.BigDecimalPriceCalculation;
+import com.gdg.sprint.team1.service.PriceCalculationService;
+
+/** 주문/장바구니마다 호출되는 금액 계산. bigDecimal* 는 Money 도입 전 계산(src/test) 비교용 */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class PriceCalculationBenchmark {
+
+    @Param({"1", "5", "20"})
+    int itemCount;
+
+    private final PriceCalculationService service = new PriceCalculationService();
+    private final BigDecimalPriceCalculation bigDecimal = new BigDecimalPriceCalculation();
+    private List<PriceItem> items;
+    private CouponInfo percentageCoupon;
+    private CouponInfo fixedCoupon;
+
+    @Setup
+    public void setUp() {
+        items = new ArrayList<>(itemCount);
+        for (int i = 1; i <= itemCount; i++) {
+            items.add(new PriceItem((long) i, new BigDecimal("4500.00").add(BigDecimal.valueOf(i * 10L)), i % 3 + 1));
+        }
+        percentageCoupon = new CouponInfo(CouponType.PERCENTAGE, new BigDecimal("15"), new BigDecimal("10000"));
+        fixedCoupon = new CouponInfo(CouponType.FIXED, new BigDecimal("3000"), BigDecimal.ZERO);
+    }
+
+    @Benchmark
+    public PriceCalculationResult noCoupon() {
+        return service.calculateTotal(items, null);
+    }
+
+    @Benchmark
+    public PriceCalculationResult percentageCoupon() {
+        return service.calculateTotal(items, percentageCoupon);
+    }
+
+    @Benchmark
+    public PriceCalculationResult fixedCoupon() {
+        return service.calculateTotal(items, fixedCoupon);
+    }
+
+    @Benchmark
+    public PriceCalculationResult bigDecimalNoCoupon() {
+        return bigDecimal.calculateTotal(items, null);
+    }
+
+    @Benchmark
+    public PriceCalculationResult bigDecimalPercentageCoupon() {
+        return bigDecimal.calculateTotal(items, percentageCoupon);
+    }
+
+    @Benchmark
+    public PriceCalculationResult bigDecimalFixedCoupon() {
+        return bigDecimal.calculateTotal(items, fixedCoupon);
+    }
+}
@@ -0,0 +1,197 @@
+package com.gdg.sprint.team1.cache;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+import com.gdg.sprint.team1.domain.cart.CartView;
+
+/**
+ * 사용자별 계산된 장바구니(CartView) 보관소.
+ * <p>
+ * 상품 → 사용자 역인덱스를 두어, 상품 캐시가 무효화되면(가격/재고/상태 변경, 다른 노드 포함)
+ * 그 상품을 담은 사용자의 해당 항목만 stale 로 표시합니다.
+ * 저장소 반영/상품 조회는 lock 밖에서 하고, lock 은 계산 결과를 비교 후 교체할 때만 잡습니다.
+ * 계산하는 동안 같은 사용자의 변경이 시작됐으면(변경 순번으로 확인) 결과를 저장하지 않습니다.
+ * 다른 노드에는 해당 사용자의 CartView 를 버리라는 메시지를 보냅니다.
+ */
+@Component
+public class CartViewCache {
+
+    private static final int STRIPES = 64;
+    private static final String CHANNEL = "team1:cart-view-invalidation";
+
+    private final Cache<Integer, CartView> views;
+    private final Map<Long, Set<Integer>> usersByProduct = new ConcurrentHashMap<>();
+    // 계산 도중 바뀐 상품을 놓치지 않도록 최근 변경 순번을 잠시 보관 (상품 id → 변경 순번)
+    private final AtomicLong changeSequence = new AtomicLong();
+    private final Cache<Long, Long> recentChanges = Caffeine.newBuilder()
+        .expireAfterWrite(Duration.ofMinutes(1))
+        .maximumSize(100_000)
+        .build();
+    private final ReentrantLock[] locks = newLocks();
+    // lock stripe 별 장바구니 변경 순번. 같은 stripe 의 다른 사용자 변경도 올리지만 저장을 한 번 건너뛸 뿐임
+    private final AtomicLongArray changeStamps = new AtomicLongArray(STRIPES);
+    private final RemoteCache remoteCache;
+    // 자기 자신이 보낸 무효화 메시지를 구분하기 위한 노드 식별자
+    private final String nodeId = UUID.randomUUID().toString();
+
+    public CartViewCache(
+        ProductDetailCache productDetailCache,
+        RemoteCache remoteCache,
+        MeterRegistry meterRegistry,
+        @Value("${app.cache.cart-view.max-size:100000}") long maxSize,
+        @Value("${app.cache.cart-view.idle-seconds:1800}") long idleSeconds
+    ) {
+        this.views = Caffeine.newBuilder()
+            .maximumSize(maxSize)
+            .expireAfterAccess(Duration.ofSeconds(idleSeconds))
+            .evictionListener((Integer userId, CartView view, RemovalCause cause) -> {
+                if (userId != null && view != null) {
+                    unindex(userId, view.productIds());
+                }
+            })
+            .recordStats()
+            .build();
+        this.remoteCache = remoteCache;
+        CaffeineCacheMetrics.monitor(meterRegistry, views, "cart.view");
+
+        productDetailCache.addInvalidationListener(this::markStale);
+        remoteCache.subscribe(CHANNEL, this::onRemoteInvalidation);
+    }
+
+    /** 없으면 null */
+    public CartView get(Integer userId) {
+        return views.getIfPresent(userId);
+    }
+
+    /** 상품 정보를 읽기 전에 받아 두고 putIfUnchanged 에 넘깁니다. */
+    public long currentSequence() {
+        return changeSequence.get();
+    }
+
+    /** 저장소를 읽기 전에 받아 두고 putIfUnchanged 에 넘깁니다. */
+    public long changeStamp(Integer userId) {
+        return changeStamps.get(stripe(userId));
+    }
+
+    /** 장바구니 변경(저장소 반영) 전에 호출합니다. 진행 중이던 다른 계산은 결과를 저장하지 않게 됩니다. */
+    public long beginChange(Integer userId) {
+        return changeStamps.incrementAndGet(stripe(userId));
+    }
+
+    /**
+     * lock 밖에서 계산한 CartView 를 저장합니다. stamp 이후 같은 사용자의 변경이 시작됐거나
+     * 보관 중인 CartView 가 계산의 기준(expected, 없었으면 null)과 다르면 저장하지 않고 false 를 반환합니다.
+     */
+    public boolean putIfUnchanged(Integer userId, CartView expected, CartView view, long stamp, long loadedAt) {
+        int stripe = stripe(userId);
+        ReentrantLock lock = locks[stripe];
+        lock.lock();
+        try {
+            if (changeStamps.get(stripe) != stamp || views.getIfPresent(userId) != expected) {
+                return false;
+            }
+            put(userId, view, loadedAt);
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * lock 안에서 호출. 빠진 상품은 역인덱스에서 제거합니다.
+     * loadedAt 이후 바뀐 상품이 있으면 그 항목은 stale 로 표시합니다.
+     * (역인덱스 등록 → 저장 → 최근 변경 확인 순서라 markStale 과 엇갈려도 변경을 놓치지 않음)
+     */
+    private void put(Integer userId, CartView view, long loadedAt) {
+        CartView previous = views.getIfPresent(userId);
+        if (previous != null) {
+            unindex(userId, previous.productIds().stream()
+                .filter(productId -> view.line(productId) == null)
+                .toList());
+        }
+        for (Long productId : view.productIds()) {
+            usersByProduct.computeIfAbsent(productId, id -> ConcurrentHashMap.newKeySet()).add(userId);
+        }
+        views.put(userId, view);
+        for (Long productId : view.productIds()) {
+            Long changedAt = recentChanges.getIfPresent(productId);
+            if (changedAt != null && changedAt > loadedAt) {
+                views.asMap().computeIfPresent(userId, (id, current) -> current.markStale(productId));
+            }
+        }
+    }
+
+    /** 이 노드의 CartView 를 버립니다 (다음 조회 때 저장소에서 다시 계산). 진행 중이던 계산도 저장하지 않습니다. */
+    public void evict(Integer userId) {
+        changeStamps.incrementAndGet(stripe(userId));
+        CartView removed = views.asMap().remove(userId);
+        if (removed != null) {
+            unindex(userId, removed.productIds());
+        }
+    }
+
+    /** 다른 노드의 CartView 를 버리도록 알립니다. 장바구니 변경 후 호출합니다. */
+    public void publishChange(Integer userId) {
+        remoteCache.publish(CHANNEL, nodeId + ":" + userId);
+    }
+
+    private void markStale(Collection<Long> productIds) {
+        for (Long productId : productIds) {
+            recentChanges.put(productId, changeSequence.incrementAndGet());
+            Set<Integer> userIds = usersByProduct.get(productId);
+            if (userIds == null) {
+                continue;
+            }
+            for (Integer userId : userIds) {
+                views.asMap().computeIfPresent(userId, (id, view) -> view.markStale(productId));
+            }
+        }
+    }
+
+    private void onRemoteInvalidation(String message) {
+        int separator = message.lastIndexOf(':');
+        if (separator < 0 || message.substring(0, separator).equals(nodeId)) {
+            return;
+        }
+        evict(Integer.valueOf(message.substring(separator + 1)));
+    }
+
+    private void unindex(Integer userId, Collection<Long> productIds) {
+        for (Long productId : productIds) {
+            usersByProduct.computeIfPresent(productId, (id, userIds) -> {
+                userIds.remove(userId);
+                return userIds.isEmpty() ? null : userIds;
+            });
+        }
+    }
+
+    private static int stripe(Integer userId) {
+        return Math.floorMod(userId.hashCode(), STRIPES);
+    }
+
+    private static ReentrantLock[] newLocks() {
+        ReentrantLock[] stripes = new ReentrantLock[STRIPES];
+        for (int i = 0; i < STRIPES; i++) {
+            stripes[i] = new ReentrantLock();
+        }
+        return stripes;
+    }
+}
@@ -0,0 +1,81 @@
+package com.gdg.sprint.team1.cache;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+
+/**
+ * 외부 서비스 없이 쓰는 원격 캐시 대체 구현 (app.cache.remote=memory, 기본값).
+ * 한 JVM 안에서만 공유되므로 로컬 실행/테스트용이며, 여러 노드 배포에서는 redis 를 사용해야 합니다.
+ * 항목 수는 app.cache.remote-max-size 로 제한하고, 항목마다 put 시 받은 TTL 로 만료시킵니다.
+ * 무효화 메시지는 구독자에게 동기로 전달됩니다.
+ */
+@Component
+@ConditionalOnProperty(name = "app.cache.remote", havingValue = "memory", matchIfMissing = true)
+public class InMemoryRemoteCache implements RemoteCache {
+
+    private record Entry(String value, long ttlNanos) {}
+
+    private final Cache<String, Entry> entries;
+    private final Map<String, List<Consumer<String>>> listeners = new ConcurrentHashMap<>();
+
+    public InMemoryRemoteCache(@Value("${app.cache.remote-max-size:100000}") long maxSize) {
+        this.entries = Caffeine.newBuilder()
+            .maximumSize(maxSize)
+            .expireAfter(new Expiry<String, Entry>() {
+                @Override
+                public long expireAfterCreate(String key, Entry entry, long currentTime) {
+                    return entry.ttlNanos();
+                }
+
+                @Override
+                public long expireAfterUpdate(String key, Entry entry, long currentTime, long currentDuration) {
+                    return entry.ttlNanos();
+                }
+
+                @Override
+                public long expireAfterRead(String key, Entry entry, long currentTime, long currentDuration) {
+                    return currentDuration;
+                }
+            })
+            .build();
+    }
+
+    @Override
+    public String get(String key) {
+        Entry entry = entries.getIfPresent(key);
+        return entry != null ? entry.value() : null;
+    }
+
+    @Override
+    public void put(String key, String value, Duration ttl) {
+        entries.put(key, new Entry(value, ttl.toNanos()));
+    }
+
+    @Override
+    public void evict(Collection<String> keys) {
+        entries.invalidateAll(keys);
+    }
+
+    @Override
+    public void publish(String channel, String message) {
+        listeners.getOrDefault(channel, List.of()).forEach(listener -> listener.accept(message));
+    }
+
+    @Override
+    public void subscribe(String channel, Consumer<String> listener) {
+        listeners.computeIfAbsent(channel, c -> new CopyOnWriteArrayList<>()).add(listener);
+    }
+}
@@ -0,0 +1,61 @@
+package com.gdg.sprint.team1.cache;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+
+import com.gdg.sprint.team1.dto.product.ProductDetailDto;
+
+/**
+ * 상품 상세 조회용 read-through 캐시 (로컬 + 원격 2단계).
+ * 로컬은 크기(maximumSize)와 TTL 기준으로 제거되며,
+ * 상품 변경(관리자 수정, 재고 차감/복구) 시 evict 로 모든 노드에서 무효화합니다.
+ */
+@Component
+public class ProductDetailCache {
+
+    private final TwoLevelCache<Long, ProductDetailDto> cache;
+
+    public ProductDetailCache(
+        TwoLevelCacheFactory cacheFactory,
+        @Value("${app.cache.product.max-size:10000}") long maxSize,
+        @Value("${app.cache.product.ttl-seconds:60}") long ttlSeconds
+    ) {
+        this.cache = cacheFactory.create(
+            "product.detail",
+            new TypeReference<ProductDetailDto>() {},
+            maxSize,
+            Duration.ofSeconds(ttlSeconds)
+        );
+    }
+
+    public ProductDetailDto get(Long productId, Function<Long, ProductDetailDto> loader) {
+        return cache.get(productId, loader);
+    }
+
+    public void evict(Long productId) {
+        cache.evict(productId);
+    }
+
+    public void evictAll(Collection<Long> productIds) {
+        cache.evictAll(productIds);
+    }
+
+    /** 상품 정보가 바뀌었을 때(다른 노드의 변경 포함) 호출될 리스너 등록 */
+    public void addInvalidationListener(Consumer<List<Long>> listener) {
+        cache.addInvalidationListener(ids -> listener.accept(ids.stream().map(Long::valueOf).toList()));
+    }
+
+    /** 로컬 hit/miss/eviction 카운터 */
+    public CacheStats stats() {
+        return cache.stats();
+    }
+}
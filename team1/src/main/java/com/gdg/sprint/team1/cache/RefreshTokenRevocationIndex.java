@@ -0,0 +1,57 @@
+package com.gdg.sprint.team1.cache;
+
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+import com.gdg.sprint.team1.config.JwtProperties;
+
+/**
+ * 더 이상 쓸 수 없는 refresh token(회전되어 교체됨, DB 에 없음) digest 의 노드 로컬 색인.
+ * <p>
+ * 같은 토큰의 재시도/재사용을 DB 조회 없이 거절하기 위한 것으로, 판정 기준은 항상 DB 입니다.
+ * 색인에 없으면(제거됨, 재시작) DB 회전 UPDATE 가 0 건으로 똑같이 거절하므로 정확성에는 영향이 없습니다.
+ * 항목은 refresh token 수명이 지나면 빠지고(그 뒤에는 JWT 만료로 거절), 다른 노드에도 원격 채널로 알립니다.
+ */
+@Component
+public class RefreshTokenRevocationIndex {
+
+    private static final String CHANNEL = "team1:refresh-token-revocation";
+
+    private final Cache<String, Boolean> revoked;
+    private final RemoteCache remoteCache;
+
+    public RefreshTokenRevocationIndex(
+        RemoteCache remoteCache,
+        JwtProperties jwtProperties,
+        MeterRegistry meterRegistry,
+        @Value("${app.jwt.revocation-index-max-size:200000}") long maxSize
+    ) {
+        this.revoked = Caffeine.newBuilder()
+            .maximumSize(maxSize)
+            .expireAfterWrite(Duration.ofDays(jwtProperties.getRefreshExpireDays()))
+            .recordStats()
+            .build();
+        this.remoteCache = remoteCache;
+        CaffeineCacheMetrics.monitor(meterRegistry, revoked, "refresh.revocation");
+
+        remoteCache.subscribe(CHANNEL, tokenHash -> revoked.put(tokenHash, Boolean.TRUE));
+    }
+
+    public boolean isRevoked(String tokenHash) {
+        return revoked.getIfPresent(tokenHash) != null;
+    }
+
+    /** 이 노드에 기록하고 다른 노드에도 알립니다. */
+    public void revoke(String tokenHash) {
+        revoked.put(tokenHash, Boolean.TRUE);
+        remoteCache.publish(CHANNEL, tokenHash);
+    }
+}
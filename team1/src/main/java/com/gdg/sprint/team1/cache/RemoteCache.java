@@ -0,0 +1,24 @@
+package com.gdg.sprint.team1.cache;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.function.Consumer;
+
+/**
+ * 노드 간에 공유되는 원격 캐시(2차) + 무효화 메시지 채널.
+ * 값은 JSON 문자열로 저장하며, 구현은 app.cache.remote 로 선택합니다 (memory: 내장 대체 구현, redis).
+ */
+public interface RemoteCache {
+
+    /** 없거나 만료되었으면 null */
+    String get(String key);
+
+    void put(String key, String value, Duration ttl);
+
+    void evict(Collection<String> keys);
+
+    /** 같은 채널을 구독 중인 모든 노드(자기 자신 포함)에 메시지를 보냅니다. */
+    void publish(String channel, String message);
+
+    void subscribe(String channel, Consumer<String> listener);
+}
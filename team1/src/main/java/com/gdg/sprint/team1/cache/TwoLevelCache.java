@@ -0,0 +1,188 @@
+package com.gdg.sprint.team1.cache;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * 로컬(Caffeine, 1차) + 원격(RemoteCache, 2차) read-through 캐시.
+ * <p>
+ * 조회는 로컬 → 원격 → loader 순서이며, loader 결과는 원격에 JSON 으로 올려 다른 노드가 재사용합니다.
+ * 변경 시 evict 로 로컬/원격을 지우고 무효화 메시지를 발행해 다른 노드의 로컬 항목도 지웁니다.
+ * 원격 장애는 조회를 실패시키지 않고 loader(DB)로 대체합니다.
+ * 무효화와 동시에 진행 중이던 적재가 이전 값을 다시 올리는 경우는 원격 TTL(로컬 TTL 이하)로 한정됩니다.
+ */
+public class TwoLevelCache<K, V> {
+
+    private static final Logger log = LoggerFactory.getLogger(TwoLevelCache.class);
+    private static final String KEY_PREFIX = "team1:cache:";
+    private static final String CHANNEL_PREFIX = "team1:cache-invalidation:";
+    private static final String MESSAGE_DELIMITER = "\n";
+
+    private final String name;
+    private final Cache<String, V> local;
+    private final RemoteCache remote;
+    private final Duration remoteTtl;
+    private final ObjectMapper objectMapper;
+    private final JavaType valueType;
+    private final String channel;
+    private final Counter remoteHits;
+    private final Counter remoteMisses;
+    private final Counter remoteErrors;
+    private final List<Consumer<List<String>>> invalidationListeners = new CopyOnWriteArrayList<>();
+
+    TwoLevelCache(
+        String name,
+        long localMaxSize,
+        Duration localTtl,
+        RemoteCache remote,
+        Duration remoteTtl,
+        ObjectMapper objectMapper,
+        JavaType valueType,
+        MeterRegistry meterRegistry
+    ) {
+        this.name = name;
+        this.local = Caffeine.newBuilder()
+            .maximumSize(localMaxSize)
+            .expireAfterWrite(localTtl)
+            .recordStats()
+            .build();
+        this.remote = remote;
+        this.remoteTtl = remoteTtl;
+        this.objectMapper = objectMapper;
+        this.valueType = valueType;
+        this.channel = CHANNEL_PREFIX + name;
+        // 로컬: cache.gets{cache=<name>, result=hit|miss} 등, 원격: cache.remote.gets / cache.remote.errors
+        CaffeineCacheMetrics.monitor(meterRegistry, local, name);
+        this.remoteHits = remoteCounter(meterRegistry, "cache.remote.gets", "hit");
+        this.remoteMisses = remoteCounter(meterRegistry, "cache.remote.gets", "miss");
+        this.remoteErrors = Counter.builder("cache.remote.errors").tag("cache", name).register(meterRegistry);
+
+        remote.subscribe(channel, message -> invalidateLocal(Arrays.asList(message.split(MESSAGE_DELIMITER))));
+    }
+
+    public V get(K key, Function<K, V> loader) {
+        return local.get(key.toString(), id -> loadThroughRemote(key, id, loader));
+    }
+
+    public void evict(K key) {
+        evictAll(List.of(key));
+    }
+
+    /**
+     * 즉시 무효화하고, 트랜잭션 안이라면 커밋/롤백 이후에 한 번 더 무효화합니다.
+     * 커밋 전에 다른 요청(다른 노드 포함)이 이전 값을 다시 적재하는 경우를 막기 위함입니다.
+     */
+    public void evictAll(Collection<K> keys) {
+        if (keys == null || keys.isEmpty()) {
+            return;
+        }
+        List<String> ids = keys.stream().map(Object::toString).distinct().toList();
+        invalidate(ids);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    invalidate(ids);
+                }
+            });
+        }
+    }
+
+    /**
+     * 이 노드 또는 다른 노드에서 항목이 무효화될 때 호출될 리스너 (키 문자열 목록).
+     * 같은 무효화가 여러 번 전달될 수 있으므로 리스너는 멱등이어야 합니다.
+     */
+    public void addInvalidationListener(Consumer<List<String>> listener) {
+        invalidationListeners.add(listener);
+    }
+
+    /** 로컬(1차) hit/miss/eviction 카운터 */
+    public CacheStats stats() {
+        return local.stats();
+    }
+
+    private V loadThroughRemote(K key, String id, Function<K, V> loader) {
+        String remoteKey = remoteKey(id);
+        V cached = readRemote(remoteKey);
+        if (cached != null) {
+            remoteHits.increment();
+            return cached;
+        }
+        remoteMisses.increment();
+        V value = loader.apply(key);
+        writeRemote(remoteKey, value);
+        return value;
+    }
+
+    private V readRemote(String remoteKey) {
+        try {
+            String json = remote.get(remoteKey);
+            return json == null ? null : objectMapper.readValue(json, valueType);
+        } catch (JsonProcessingException | RuntimeException e) {
+            remoteErrors.increment();
+            log.warn("원격 캐시 조회 실패, DB 로 대체: cache={}, key={}", name, remoteKey, e);
+            return null;
+        }
+    }
+
+    private void writeRemote(String remoteKey, V value) {
+        if (value == null) {
+            return;
+        }
+        try {
+            remote.put(remoteKey, objectMapper.writeValueAsString(value), remoteTtl);
+        } catch (JsonProcessingException | RuntimeException e) {
+            remoteErrors.increment();
+            log.warn("원격 캐시 저장 실패: cache={}, key={}", name, remoteKey, e);
+        }
+    }
+
+    private void invalidate(List<String> ids) {
+        invalidateLocal(ids);
+        try {
+            remote.evict(ids.stream().map(this::remoteKey).toList());
+            remote.publish(channel, String.join(MESSAGE_DELIMITER, ids));
+        } catch (RuntimeException e) {
+            // 다른 노드의 로컬 항목은 로컬 TTL 이 지나면 사라짐
+            remoteErrors.increment();
+            log.warn("원격 캐시 무효화 실패: cache={}, keys={}", name, ids, e);
+        }
+    }
+
+    private void invalidateLocal(List<String> ids) {
+        local.invalidateAll(ids);
+        invalidationListeners.forEach(listener -> listener.accept(ids));
+    }
+
+    private String remoteKey(String id) {
+        return KEY_PREFIX + name + ":" + id;
+    }
+
+    private Counter remoteCounter(MeterRegistry meterRegistry, String meterName, String result) {
+        return Counter.builder(meterName)
+            .tag("cache", name)
+            .tag("result", result)
+            .register(meterRegistry);
+    }
+}
@@ -0,0 +1,54 @@
+package com.gdg.sprint.team1.cache;
+
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * 캐시 이름별 TwoLevelCache 생성. 원격 구현과 원격 TTL 은 모든 캐시가 공유합니다.
+ * 원격 TTL 은 캐시별 로컬 TTL 을 넘지 않게 맞춥니다 (무효화와 겹친 적재가 남기는 이전 값의 수명 한정).
+ */
+@Component
+public class TwoLevelCacheFactory {
+
+    private final RemoteCache remoteCache;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final Duration remoteTtl;
+
+    public TwoLevelCacheFactory(
+        RemoteCache remoteCache,
+        ObjectMapper objectMapper,
+        MeterRegistry meterRegistry,
+        @Value("${app.cache.remote-ttl-seconds:60}") long remoteTtlSeconds
+    ) {
+        this.remoteCache = remoteCache;
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+        this.remoteTtl = Duration.ofSeconds(remoteTtlSeconds);
+    }
+
+    public <K, V> TwoLevelCache<K, V> create(
+        String name,
+        TypeReference<V> valueType,
+        long localMaxSize,
+        Duration localTtl
+    ) {
+        return new TwoLevelCache<>(
+            name,
+            localMaxSize,
+            localTtl,
+            remoteCache,
+            remoteTtl.compareTo(localTtl) > 0 ? localTtl : remoteTtl,
+            objectMapper,
+            objectMapper.getTypeFactory().constructType(valueType),
+            meterRegistry
+        );
+    }
+}
@@ -0,0 +1,43 @@
+package com.gdg.sprint.team1.cache;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.function.Function;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+
+import com.gdg.sprint.team1.dto.my.UserCouponSnapshot;
+
+/**
+ * 사용자별 보유 쿠폰 목록 캐시. 쿠폰 사용/복구 시 evict 합니다.
+ * 사용 가능 여부는 만료 시각에 따라 바뀌므로 조회 시점에 다시 판단합니다.
+ */
+@Component
+public class UserCouponCache {
+
+    private final TwoLevelCache<Integer, List<UserCouponSnapshot>> cache;
+
+    public UserCouponCache(
+        TwoLevelCacheFactory cacheFactory,
+        @Value("${app.cache.user.max-size:10000}") long maxSize,
+        @Value("${app.cache.user.ttl-seconds:60}") long ttlSeconds
+    ) {
+        this.cache = cacheFactory.create(
+            "user.coupons",
+            new TypeReference<List<UserCouponSnapshot>>() {},
+            maxSize,
+            Duration.ofSeconds(ttlSeconds)
+        );
+    }
+
+    public List<UserCouponSnapshot> get(Integer userId, Function<Integer, List<UserCouponSnapshot>> loader) {
+        return cache.get(userId, loader);
+    }
+
+    public void evict(Integer userId) {
+        cache.evict(userId);
+    }
+}
@@ -0,0 +1,41 @@
+package com.gdg.sprint.team1.cache;
+
+import java.time.Duration;
+import java.util.function.Function;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+
+import com.gdg.sprint.team1.dto.auth.UserMeResponse;
+
+/**
+ * 내 정보(프로필) 조회용 캐시. 프로필 수정 시 evict 합니다.
+ */
+@Component
+public class UserProfileCache {
+
+    private final TwoLevelCache<Integer, UserMeResponse> cache;
+
+    public UserProfileCache(
+        TwoLevelCacheFactory cacheFactory,
+        @Value("${app.cache.user.max-size:10000}") long maxSize,
+        @Value("${app.cache.user.ttl-seconds:60}") long ttlSeconds
+    ) {
+        this.cache = cacheFactory.create(
+            "user.profile",
+            new TypeReference<UserMeResponse>() {},
+            maxSize,
+            Duration.ofSeconds(ttlSeconds)
+        );
+    }
+
+    public UserMeResponse get(Integer userId, Function<Integer, UserMeResponse> loader) {
+        return cache.get(userId, loader);
+    }
+
+    public void evict(Integer userId) {
+        cache.evict(userId);
+    }
+}
@@ -0,0 +1,65 @@
+package com.gdg.sprint.team1.common;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.context.request.WebRequest;
+
+/**
+ * 조건부 GET(If-None-Match) 용 강한 ETag 생성.
+ * <p>
+ * 응답 본문이 아니라 본문을 결정하는 값(상품 version, 장바구니 항목 등)을 순서대로 넣어 SHA-256 앞 16바이트로 만듭니다.
+ * 같은 URL 이라도 응답 형식(JSON/Smile/CBOR)이 다르면 본문 바이트가 다르므로 Accept 헤더도 함께 넣어야 합니다.
+ */
+public final class ETags {
+
+    private static final int LENGTH = 16;
+
+    private ETags() {
+    }
+
+    public static String of(Object... parts) {
+        Builder builder = builder();
+        for (Object part : parts) {
+            builder.add(part);
+        }
+        return builder.build();
+    }
+
+    /** 응답 형식(JSON/Smile/CBOR)마다 본문이 다르므로 요청의 Accept 를 version 과 함께 넣습니다. */
+    public static String forRequest(String version, WebRequest webRequest) {
+        return of(version, webRequest.getHeader(HttpHeaders.ACCEPT));
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static final class Builder {
+
+        private final MessageDigest digest;
+
+        private Builder() {
+            try {
+                this.digest = MessageDigest.getInstance("SHA-256");
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException("SHA-256 을 사용할 수 없습니다.", e);
+            }
+        }
+
+        /** null 도 하나의 값으로 구분해 넣습니다 (구분자로 값 경계를 표시). */
+        public Builder add(Object value) {
+            digest.update(String.valueOf(value).getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+            return this;
+        }
+
+        /** 따옴표로 감싼 ETag 값 */
+        public String build() {
+            return '"' + HexFormat.of().formatHex(digest.digest(), 0, LENGTH) + '"';
+        }
+    }
+}
@@ -0,0 +1,185 @@
+package com.gdg.sprint.team1.common;
+
+import java.math.BigDecimal;
+
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.core.SerializableString;
+import tools.jackson.core.io.SerializedString;
+import tools.jackson.databind.SerializationContext;
+import tools.jackson.databind.module.SimpleModule;
+import tools.jackson.databind.ser.std.StdSerializer;
+
+import com.gdg.sprint.team1.dto.cart.CartItemResponse;
+import com.gdg.sprint.team1.dto.order.OrderResponse;
+import com.gdg.sprint.team1.dto.product.ProductListDto;
+
+/**
+ * 목록 응답에 행마다 반복되는 DTO 의 직렬화기.
+ * <p>
+ * 필드 이름(snake_case)을 미리 인코딩해 두고 accessor 를 직접 호출해, 행마다 리플렉션/이름 변환 없이 씁니다.
+ * JSON / Smile / CBOR 매퍼에 같은 모듈을 등록하므로 출력 모양은 기본 record 직렬화와 같아야 합니다
+ * (필드 순서, null 포함, 날짜는 매퍼 설정을 따름). 필드를 추가하면 여기에도 추가해야 합니다.
+ */
+public final class ResponseSerializers {
+
+    private ResponseSerializers() {
+    }
+
+    public static SimpleModule module() {
+        return new SimpleModule("team1-response-serializers")
+            .addSerializer(ProductListDto.class, new ProductListDtoSerializer())
+            .addSerializer(OrderResponse.class, new OrderResponseSerializer())
+            .addSerializer(CartItemResponse.class, new CartItemResponseSerializer());
+    }
+
+    static final class ProductListDtoSerializer extends StdSerializer<ProductListDto> {
+
+        private static final SerializableString ID = new SerializedString("id");
+        private static final SerializableString NAME = new SerializedString("name");
+        private static final SerializableString DESCRIPTION = new SerializedString("description");
+        private static final SerializableString PRICE = new SerializedString("price");
+        private static final SerializableString STOCK = new SerializedString("stock");
+        private static final SerializableString PRODUCT_STATUS = new SerializedString("product_status");
+        private static final SerializableString IMAGE_URL = new SerializedString("image_url");
+        private static final SerializableString CREATED_AT = new SerializedString("created_at");
+        private static final SerializableString UPDATED_AT = new SerializedString("updated_at");
+
+        ProductListDtoSerializer() {
+            super(ProductListDto.class);
+        }
+
+        @Override
+        public void serialize(ProductListDto value, JsonGenerator gen, SerializationContext ctxt) {
+            gen.writeStartObject(value);
+            gen.writeName(ID);
+            writeNumber(gen, value.id());
+            gen.writeName(NAME);
+            gen.writeString(value.name());
+            gen.writeName(DESCRIPTION);
+            gen.writeString(value.description());
+            gen.writeName(PRICE);
+            writeNumber(gen, value.price());
+            gen.writeName(STOCK);
+            writeNumber(gen, value.stock());
+            gen.writeName(PRODUCT_STATUS);
+            gen.writeString(value.productStatus());
+            gen.writeName(IMAGE_URL);
+            gen.writeString(value.imageUrl());
+            gen.writeName(CREATED_AT);
+            gen.writePOJO(value.createdAt());
+            gen.writeName(UPDATED_AT);
+            gen.writePOJO(value.updatedAt());
+            gen.writeEndObject();
+        }
+    }
+
+    static final class OrderResponseSerializer extends StdSerializer<OrderResponse> {
+
+        private static final SerializableString ID = new SerializedString("id");
+        private static final SerializableString ORDER_STATUS = new SerializedString("order_status");
+        private static final SerializableString TOTAL_PRODUCT_PRICE = new SerializedString("total_product_price");
+        private static final SerializableString DISCOUNT_AMOUNT = new SerializedString("discount_amount");
+        private static final SerializableString DELIVERY_FEE = new SerializedString("delivery_fee");
+        private static final SerializableString FINAL_PRICE = new SerializedString("final_price");
+        private static final SerializableString DELIVERY_ADDRESS = new SerializedString("delivery_address");
+        private static final SerializableString CREATED_AT = new SerializedString("created_at");
+        private static final SerializableString ITEM_COUNT = new SerializedString("item_count");
+
+        OrderResponseSerializer() {
+            super(OrderResponse.class);
+        }
+
+        @Override
+        public void serialize(OrderResponse value, JsonGenerator gen, SerializationContext ctxt) {
+            gen.writeStartObject(value);
+            gen.writeName(ID);
+            writeNumber(gen, value.id());
+            gen.writeName(ORDER_STATUS);
+            gen.writeString(value.orderStatus());
+            gen.writeName(TOTAL_PRODUCT_PRICE);
+            writeNumber(gen, value.totalProductPrice());
+            gen.writeName(DISCOUNT_AMOUNT);
+            writeNumber(gen, value.discountAmount());
+            gen.writeName(DELIVERY_FEE);
+            writeNumber(gen, value.deliveryFee());
+            gen.writeName(FINAL_PRICE);
+            writeNumber(gen, value.finalPrice());
+            gen.writeName(DELIVERY_ADDRESS);
+            gen.writeString(value.deliveryAddress());
+            gen.writeName(CREATED_AT);
+            gen.writePOJO(value.createdAt());
+            gen.writeName(ITEM_COUNT);
+            writeNumber(gen, value.itemCount());
+            gen.writeEndObject();
+        }
+    }
+
+    static final class CartItemResponseSerializer extends StdSerializer<CartItemResponse> {
+
+        private static final SerializableString PRODUCT_ID = new SerializedString("product_id");
+        private static final SerializableString PRODUCT_NAME = new SerializedString("product_name");
+        private static final SerializableString PRODUCT_PRICE = new SerializedString("product_price");
+        private static final SerializableString PRODUCT_STATUS = new SerializedString("product_status");
+        private static final SerializableString QUANTITY = new SerializedString("quantity");
+        private static final SerializableString SUBTOTAL = new SerializedString("subtotal");
+        private static final SerializableString IS_AVAILABLE = new SerializedString("is_available");
+        private static final SerializableString CREATED_AT = new SerializedString("created_at");
+        private static final SerializableString UPDATED_AT = new SerializedString("updated_at");
+
+        CartItemResponseSerializer() {
+            super(CartItemResponse.class);
+        }
+
+        @Override
+        public void serialize(CartItemResponse value, JsonGenerator gen, SerializationContext ctxt) {
+            gen.writeStartObject(value);
+            gen.writeName(PRODUCT_ID);
+            writeNumber(gen, value.productId());
+            gen.writeName(PRODUCT_NAME);
+            gen.writeString(value.productName());
+            gen.writeName(PRODUCT_PRICE);
+            writeNumber(gen, value.productPrice());
+            gen.writeName(PRODUCT_STATUS);
+            gen.writeString(value.productStatus());
+            gen.writeName(QUANTITY);
+            writeNumber(gen, value.quantity());
+            gen.writeName(SUBTOTAL);
+            writeNumber(gen, value.subtotal());
+            gen.writeName(IS_AVAILABLE);
+            if (value.isAvailable() == null) {
+                gen.writeNull();
+            } else {
+                gen.writeBoolean(value.isAvailable());
+            }
+            gen.writeName(CREATED_AT);
+            gen.writePOJO(value.createdAt());
+            gen.writeName(UPDATED_AT);
+            gen.writePOJO(value.updatedAt());
+            gen.writeEndObject();
+        }
+    }
+
+    private static void writeNumber(JsonGenerator gen, Long value) {
+        if (value == null) {
+            gen.writeNull();
+        } else {
+            gen.writeNumber(value);
+        }
+    }
+
+    private static void writeNumber(JsonGenerator gen, Integer value) {
+        if (value == null) {
+            gen.writeNull();
+        } else {
+            gen.writeNumber(value);
+        }
+    }
+
+    private static void writeNumber(JsonGenerator gen, BigDecimal value) {
+        if (value == null) {
+            gen.writeNull();
+        } else {
+            gen.writeNumber(value);
+        }
+    }
+}
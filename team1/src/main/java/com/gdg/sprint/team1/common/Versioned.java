@@ -0,0 +1,6 @@
+package com.gdg.sprint.team1.common;
+
+/**
+ * 응답 본문과 그 본문의 검증값. 컨트롤러가 version 으로 ETag 를 만들어 If-None-Match 와 비교합니다.
+ */
+public record Versioned<T>(T body, String version) {}
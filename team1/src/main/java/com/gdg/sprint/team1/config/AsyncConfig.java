@@ -0,0 +1,23 @@
+package com.gdg.sprint.team1.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.scheduling.annotation.EnableAsync;
+
+import com.gdg.sprint.team1.security.UserContextTaskDecorator;
+
+/**
+ * @Async 는 스프링 부트 기본 applicationTaskExecutor 를 사용합니다.
+ * spring.threads.virtual.enabled=true (Java 21+) 이면 Tomcat 요청 처리와 함께 가상 스레드로 실행되고,
+ * 아니면 기존 플랫폼 스레드 풀로 실행됩니다. TaskDecorator 빈은 부트가 어느 쪽 executor 에든 적용합니다.
+ */
+@Configuration
+@EnableAsync
+public class AsyncConfig {
+
+    @Bean
+    public TaskDecorator userContextTaskDecorator() {
+        return new UserContextTaskDecorator();
+    }
+}
@@ -0,0 +1,57 @@
+package com.gdg.sprint.team1.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverters;
+import org.springframework.http.converter.cbor.JacksonCborHttpMessageConverter;
+import org.springframework.http.converter.smile.JacksonSmileHttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import tools.jackson.databind.DeserializationFeature;
+import tools.jackson.databind.JacksonModule;
+import tools.jackson.databind.PropertyNamingStrategies;
+import tools.jackson.dataformat.cbor.CBORMapper;
+import tools.jackson.dataformat.smile.SmileMapper;
+
+import com.gdg.sprint.team1.common.ResponseSerializers;
+
+/**
+ * JSON 외에 Smile(application/x-jackson-smile), CBOR(application/cbor) 요청/응답을 지원합니다.
+ * <p>
+ * Accept 헤더로 고르며, 없거나 *&#47;* 이면 지금처럼 JSON 입니다 (JSON 변환기가 앞에 있음).
+ * 같은 ApiResponse record 를 같은 규칙(snake_case, 날짜 ISO 문자열)으로 직렬화합니다.
+ * Smile 은 한 응답 안에서 반복되는 필드 이름을 한 번만 쓰고 이후는 참조로 보내 목록 응답이 특히 작아집니다.
+ */
+@Configuration
+public class BinaryFormatConfig implements WebMvcConfigurer {
+
+    private final JacksonModule responseSerializers = ResponseSerializers.module();
+
+    /** Boot 가 만드는 JSON 매퍼에도 같은 직렬화기를 등록 */
+    @Bean
+    public JacksonModule responseSerializersModule() {
+        return responseSerializers;
+    }
+
+    @Override
+    public void configureMessageConverters(HttpMessageConverters.ServerBuilder builder) {
+        builder.withSmileConverter(new JacksonSmileHttpMessageConverter(smileMapper()));
+        builder.withCborConverter(new JacksonCborHttpMessageConverter(cborMapper()));
+    }
+
+    SmileMapper smileMapper() {
+        return SmileMapper.builder()
+            .propertyNamingStrategy(PropertyNamingStrategies.SNAKE_CASE)
+            .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+            .addModule(responseSerializers)
+            .build();
+    }
+
+    CBORMapper cborMapper() {
+        return CBORMapper.builder()
+            .propertyNamingStrategy(PropertyNamingStrategies.SNAKE_CASE)
+            .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+            .addModule(responseSerializers)
+            .build();
+    }
+}
@@ -0,0 +1,22 @@
+package com.gdg.sprint.team1.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+/**
+ * 원격 캐시를 Redis 로 쓸 때(app.cache.remote=redis) 무효화 메시지 구독용 리스너 컨테이너.
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.cache.remote", havingValue = "redis")
+public class CacheConfig {
+
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory connectionFactory) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        return container;
+    }
+}
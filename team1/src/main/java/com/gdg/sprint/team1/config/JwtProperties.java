@@ -10,6 +10,7 @@ public class JwtProperties {
     private String secret = "default-secret-change-in-production-min-32-chars-for-hs256";
     private long accessExpireMinutes = 30L;
     private long refreshExpireDays = 7L;
+    private long payloadCacheMaxSize = 10000L;
 
     public String getSecret() {
         return secret;
@@ -34,4 +35,12 @@ public class JwtProperties {
     public void setRefreshExpireDays(long refreshExpireDays) {
         this.refreshExpireDays = refreshExpireDays;
     }
+
+    public long getPayloadCacheMaxSize() {
+        return payloadCacheMaxSize;
+    }
+
+    public void setPayloadCacheMaxSize(long payloadCacheMaxSize) {
+        this.payloadCacheMaxSize = payloadCacheMaxSize;
+    }
 }
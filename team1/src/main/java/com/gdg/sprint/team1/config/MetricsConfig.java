@@ -0,0 +1,21 @@
+package com.gdg.sprint.team1.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * 서비스 메서드의 @Timed 를 타이머로 기록합니다 (호출 수/지연/예외 태그).
+ * Hikari 커넥션 풀, JVM, HTTP 요청 지표는 actuator 가 자동으로 등록합니다.
+ * 지표는 관리 포트(management.server.port)의 /actuator/prometheus 로만 노출됩니다.
+ */
+@Configuration
+public class MetricsConfig {
+
+    @Bean
+    public TimedAspect timedAspect(MeterRegistry meterRegistry) {
+        return new TimedAspect(meterRegistry);
+    }
+}
@@ -0,0 +1,27 @@
+package com.gdg.sprint.team1.config;
+
+import org.hibernate.boot.model.FunctionContributions;
+import org.hibernate.boot.model.FunctionContributor;
+import org.hibernate.type.StandardBasicTypes;
+
+/**
+ * Criteria/JPQL 에서 MySQL FULLTEXT 검색을 쓰기 위한 함수 등록.
+ * match_against(name, description, '"키워드"') → MATCH(name, description) AGAINST ('"키워드"' IN BOOLEAN MODE)
+ *
+ * 등록: META-INF/services/org.hibernate.boot.model.FunctionContributor
+ */
+public class MySqlFullTextFunctionContributor implements FunctionContributor {
+
+    public static final String MATCH_AGAINST = "match_against";
+
+    @Override
+    public void contributeFunctions(FunctionContributions functionContributions) {
+        functionContributions.getFunctionRegistry().registerPattern(
+            MATCH_AGAINST,
+            "match(?1, ?2) against (?3 in boolean mode)",
+            functionContributions.getTypeConfiguration()
+                .getBasicTypeRegistry()
+                .resolve(StandardBasicTypes.DOUBLE)
+        );
+    }
+}
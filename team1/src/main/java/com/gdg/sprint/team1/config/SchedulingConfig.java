@@ -0,0 +1,10 @@
+package com.gdg.sprint.team1.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/** 주기 작업(@Scheduled) 활성화. 예: 메모리 장바구니 일괄 반영 */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
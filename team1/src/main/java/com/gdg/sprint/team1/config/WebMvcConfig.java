@@ -43,6 +43,8 @@ public class WebMvcConfig implements WebMvcConfigurer {
             .allowedOriginPatterns(origins.toArray(new String[0]))
             .allowedMethods("GET", "POST", "PUT", "PATCH", "DELETE", "OPTIONS")
             .allowedHeaders("*")
+            // 주문 재시도 응답 표시 (OrderController)
+            .exposedHeaders("Idempotent-Replayed")
             .allowCredentials(true)
             .maxAge(3600);
     }
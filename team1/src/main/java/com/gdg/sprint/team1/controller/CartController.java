@@ -3,6 +3,8 @@ package com.gdg.sprint.team1.controller;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.Positive;
 
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -13,10 +15,13 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import lombok.RequiredArgsConstructor;
 
 import com.gdg.sprint.team1.common.ApiResponse;
+import com.gdg.sprint.team1.common.ETags;
+import com.gdg.sprint.team1.common.Versioned;
 import com.gdg.sprint.team1.controller.api.CartApi;
 import com.gdg.sprint.team1.dto.cart.AddCartItemRequest;
 import com.gdg.sprint.team1.dto.cart.CartResponse;
@@ -37,9 +42,16 @@ public class CartController implements CartApi {
     @Override
     @GetMapping
     public ResponseEntity<ApiResponse<CartResponse>> getCart(
-        @CurrentUser UserContextHolder.UserContext user
+        @CurrentUser UserContextHolder.UserContext user,
+        WebRequest webRequest
     ) {
-        return ResponseEntity.ok(ApiResponse.success(cartService.getCart(user.userId()), "장바구니 조회 성공"));
+        Versioned<CartResponse> cart = cartService.getCart(user.userId());
+        // 사용자별 응답이므로 공유 캐시 저장 금지, 브라우저는 매번 ETag 로 재검증 (같으면 304)
+        return ResponseEntity.ok()
+            .eTag(ETags.forRequest(cart.version(), webRequest))
+            .cacheControl(CacheControl.noCache().cachePrivate())
+            .varyBy(HttpHeaders.ACCEPT)
+            .body(ApiResponse.success(cart.body(), "장바구니 조회 성공"));
     }
 
     @Override
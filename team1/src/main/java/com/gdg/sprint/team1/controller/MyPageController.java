@@ -7,7 +7,7 @@ import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.Positive;
 
-import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -49,7 +49,7 @@ public class MyPageController implements MyPageApi {
     public ResponseEntity<ApiResponse<UserMeResponse>> getMyInfo(
         @CurrentUser UserContextHolder.UserContext user
     ) {
-        UserMeResponse data = UserMeResponse.from(userService.findById(user.userId()));
+        UserMeResponse data = userService.findProfileById(user.userId());
         return ResponseEntity.ok(ApiResponse.success(data, "조회 성공"));
     }
 
@@ -68,14 +68,14 @@ public class MyPageController implements MyPageApi {
 
     @Override
     @GetMapping("/orders")
-    public ResponseEntity<ApiResponse<Page<OrderResponse>>> getMyOrders(
+    public ResponseEntity<ApiResponse<Slice<OrderResponse>>> getMyOrders(
             @CurrentUser UserContextHolder.UserContext user,
             @RequestParam(required = false, defaultValue = "1") @Min(1) Integer page,
             @RequestParam(required = false, defaultValue = "10") @Min(1) @Max(100) Integer limit,
             @RequestParam(required = false) String status,
             @RequestParam(required = false) Integer months
     ) {
-        Page<OrderResponse> data = orderService.getMyOrders(user.userId(), page, limit, status, months);
+        Slice<OrderResponse> data = orderService.getMyOrders(user.userId(), page, limit, status, months);
         return ResponseEntity.ok(ApiResponse.success(data, "주문 목록 조회 성공"));
     }
 
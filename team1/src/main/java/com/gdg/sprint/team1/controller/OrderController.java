@@ -4,8 +4,9 @@ import jakarta.validation.Valid;
 import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.Size;
 
-import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
@@ -14,6 +15,7 @@ import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
@@ -24,13 +26,17 @@ import com.gdg.sprint.team1.common.ApiResponse;
 import com.gdg.sprint.team1.controller.api.OrderApi;
 import com.gdg.sprint.team1.dto.order.CancelOrderRequest;
 import com.gdg.sprint.team1.dto.order.CancelOrderResponse;
+import com.gdg.sprint.team1.dto.order.CartOrderPreviewRequest;
 import com.gdg.sprint.team1.dto.order.CreateOrderFromCartRequest;
 import com.gdg.sprint.team1.dto.order.CreateOrderRequest;
 import com.gdg.sprint.team1.dto.order.CreateOrderResponse;
 import com.gdg.sprint.team1.dto.order.OrderDetailResponse;
+import com.gdg.sprint.team1.dto.order.OrderPreviewRequest;
+import com.gdg.sprint.team1.dto.order.OrderPreviewResponse;
 import com.gdg.sprint.team1.dto.order.OrderResponse;
 import com.gdg.sprint.team1.security.CurrentUser;
 import com.gdg.sprint.team1.security.UserContextHolder;
+import com.gdg.sprint.team1.service.OrderIdempotencyService;
 import com.gdg.sprint.team1.service.OrderService;
 
 @RestController
@@ -39,41 +45,68 @@ import com.gdg.sprint.team1.service.OrderService;
 @RequiredArgsConstructor
 public class OrderController implements OrderApi {
 
+    // 재시도로 같은 주문이 다시 생성되지 않도록 클라이언트가 요청마다 만들어 보내는 키
+    static final String IDEMPOTENCY_KEY = "Idempotency-Key";
+    static final String IDEMPOTENT_REPLAYED = "Idempotent-Replayed";
+
     private final OrderService orderService;
+    private final OrderIdempotencyService orderIdempotencyService;
 
     @Override
     @PostMapping
     public ResponseEntity<ApiResponse<CreateOrderResponse>> createOrder(
         @CurrentUser UserContextHolder.UserContext user,
+        @RequestHeader(value = IDEMPOTENCY_KEY, required = false) @Size(min = 1, max = 64) String idempotencyKey,
         @Valid @RequestBody CreateOrderRequest request
     ) {
-        CreateOrderResponse response = orderService.createOrder(user.userId(), request);
-        return ResponseEntity
-            .status(HttpStatus.CREATED)
-            .body(ApiResponse.success(response, "주문이 생성되었습니다."));
+        OrderIdempotencyService.Outcome outcome = orderIdempotencyService.execute(
+            user.userId(), idempotencyKey, request,
+            () -> orderService.createOrder(user.userId(), request, idempotencyKey));
+        return created(outcome);
     }
 
     @Override
     @PostMapping("/from-cart")
     public ResponseEntity<ApiResponse<CreateOrderResponse>> createOrderFromCart(
         @CurrentUser UserContextHolder.UserContext user,
+        @RequestHeader(value = IDEMPOTENCY_KEY, required = false) @Size(min = 1, max = 64) String idempotencyKey,
         @Valid @RequestBody CreateOrderFromCartRequest request
     ) {
-        CreateOrderResponse response = orderService.createOrderFromCart(user.userId(), request);
-        return ResponseEntity
-            .status(HttpStatus.CREATED)
-            .body(ApiResponse.success(response, "주문이 생성되었습니다."));
+        OrderIdempotencyService.Outcome outcome = orderIdempotencyService.execute(
+            user.userId(), idempotencyKey, request,
+            () -> orderService.createOrderFromCart(user.userId(), request, idempotencyKey));
+        return created(outcome);
+    }
+
+    @Override
+    @PostMapping("/preview")
+    public ResponseEntity<ApiResponse<OrderPreviewResponse>> previewOrder(
+        @CurrentUser UserContextHolder.UserContext user,
+        @Valid @RequestBody OrderPreviewRequest request
+    ) {
+        OrderPreviewResponse response = orderService.previewOrder(user.userId(), request);
+        return ResponseEntity.ok(ApiResponse.success(response, "주문 금액 미리보기 성공"));
+    }
+
+    @Override
+    @PostMapping("/preview/from-cart")
+    public ResponseEntity<ApiResponse<OrderPreviewResponse>> previewOrderFromCart(
+        @CurrentUser UserContextHolder.UserContext user,
+        @RequestBody(required = false) CartOrderPreviewRequest request
+    ) {
+        OrderPreviewResponse response = orderService.previewOrderFromCart(user.userId(), request);
+        return ResponseEntity.ok(ApiResponse.success(response, "주문 금액 미리보기 성공"));
     }
 
     @Override
     @GetMapping
-    public ResponseEntity<ApiResponse<Page<OrderResponse>>> getOrders(
+    public ResponseEntity<ApiResponse<Slice<OrderResponse>>> getOrders(
         @CurrentUser UserContextHolder.UserContext user,
         @RequestParam(required = false, defaultValue = "1") @Min(1) Integer page,
         @RequestParam(required = false, defaultValue = "10") @Min(1) @Max(100) Integer limit,
         @RequestParam(required = false) String status
     ) {
-        Page<OrderResponse> response = orderService.getOrders(user.userId(), page, limit, status);
+        Slice<OrderResponse> response = orderService.getOrders(user.userId(), page, limit, status);
         return ResponseEntity.ok(ApiResponse.success(response, "주문 목록 조회 성공"));
     }
 
@@ -97,4 +130,12 @@ public class OrderController implements OrderApi {
         CancelOrderResponse response = orderService.cancelOrder(user.userId(), orderId, request.cancelReason());
         return ResponseEntity.ok(ApiResponse.success(response, "주문이 취소되었습니다."));
     }
+
+    private static ResponseEntity<ApiResponse<CreateOrderResponse>> created(OrderIdempotencyService.Outcome outcome) {
+        ResponseEntity.BodyBuilder builder = ResponseEntity.status(HttpStatus.CREATED);
+        if (outcome.replayed()) {
+            builder.header(IDEMPOTENT_REPLAYED, "true");
+        }
+        return builder.body(ApiResponse.success(outcome.response(), "주문이 생성되었습니다."));
+    }
 }
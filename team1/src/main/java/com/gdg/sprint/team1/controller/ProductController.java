@@ -1,17 +1,22 @@
 package com.gdg.sprint.team1.controller;
 
 import java.math.BigDecimal;
+import java.time.Duration;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
-
-import lombok.RequiredArgsConstructor;
+import org.springframework.web.context.request.WebRequest;
 
 import com.gdg.sprint.team1.common.ApiResponse;
+import com.gdg.sprint.team1.common.ETags;
+import com.gdg.sprint.team1.common.Versioned;
 import com.gdg.sprint.team1.controller.api.ProductApi;
 import com.gdg.sprint.team1.dto.product.ProductDetailDto;
 import com.gdg.sprint.team1.dto.product.ProductListResponse;
@@ -19,10 +24,25 @@ import com.gdg.sprint.team1.service.ProductService;
 
 @RestController
 @RequestMapping("/api/v1")
-@RequiredArgsConstructor
 public class ProductController implements ProductApi {
 
     private final ProductService productService;
+    private final CacheControl catalogCacheControl;
+
+    /**
+     * 상품 조회는 사용자와 무관하므로 public. 브라우저는 max-age 이후 ETag 로 재검증하고,
+     * 공유 캐시(Caddy)는 s-maxage 동안 origin 에 보내지 않고 응답합니다.
+     */
+    public ProductController(
+        ProductService productService,
+        @Value("${app.http.catalog.max-age-seconds:0}") long maxAgeSeconds,
+        @Value("${app.http.catalog.shared-max-age-seconds:10}") long sharedMaxAgeSeconds
+    ) {
+        this.productService = productService;
+        this.catalogCacheControl = CacheControl.maxAge(Duration.ofSeconds(maxAgeSeconds))
+            .cachePublic()
+            .sMaxAge(Duration.ofSeconds(sharedMaxAgeSeconds));
+    }
 
     @Override
     @GetMapping("/products")
@@ -35,24 +55,43 @@ public class ProductController implements ProductApi {
         @RequestParam(required = false) BigDecimal max_price,
         @RequestParam(required = false, name = "exclude_sold_out") Boolean excludeSoldOut,
         @RequestParam(required = false) String sort,
-        @RequestParam(required = false) String order
+        @RequestParam(required = false) String order,
+        @RequestParam(required = false) String cursor,
+        WebRequest webRequest
     ) {
-        ProductListResponse data = productService.getProductList(
+        Versioned<ProductListResponse> result = productService.getProductList(
             page, limit, status, search,
-            min_price, max_price, excludeSoldOut, sort, order
+            min_price, max_price, excludeSoldOut, sort, order, cursor
         );
-        String message = data.pagination().totalItems() == 0
+        ProductListResponse data = result.body();
+        Long totalItems = data.pagination().totalItems();
+        boolean empty = totalItems != null ? totalItems == 0 : data.products().isEmpty();
+        String message = empty
             ? "검색 결과가 없습니다."
             : "상품 목록 조회 성공";
-        return ResponseEntity.ok(ApiResponse.success(data, message));
+        return catalog(ETags.forRequest(result.version(), webRequest), ApiResponse.success(data, message));
     }
 
     @Override
     @GetMapping("/products/{product_id}")
     public ResponseEntity<ApiResponse<ProductDetailDto>> getProductDetail(
-        @PathVariable("product_id") Long productId
+        @PathVariable("product_id") Long productId,
+        WebRequest webRequest
     ) {
         ProductDetailDto data = productService.getProductById(productId);
-        return ResponseEntity.ok(ApiResponse.success(data, "상품 상세 조회 성공"));
+        String etag = ETags.forRequest(data.id() + ":" + data.version(), webRequest);
+        return catalog(etag, ApiResponse.success(data, "상품 상세 조회 성공"));
+    }
+
+    /**
+     * If-None-Match 가 ETag 와 같으면 본문 직렬화 없이 304 (ResponseEntity 처리 시 비교).
+     * 304 에도 Cache-Control / Vary 가 함께 나갑니다. Accept 별로 형식(JSON/Smile/CBOR)이 달라 Vary: Accept.
+     */
+    private <T> ResponseEntity<ApiResponse<T>> catalog(String etag, ApiResponse<T> body) {
+        return ResponseEntity.ok()
+            .eTag(etag)
+            .cacheControl(catalogCacheControl)
+            .varyBy(HttpHeaders.ACCEPT)
+            .body(body);
     }
 }
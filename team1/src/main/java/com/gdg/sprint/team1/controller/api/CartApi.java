@@ -4,6 +4,7 @@ import jakarta.validation.Valid;
 import jakarta.validation.constraints.Positive;
 
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.WebRequest;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -23,12 +24,15 @@ import com.gdg.sprint.team1.security.UserContextHolder;
 @SecurityRequirement(name = "bearerAuth")
 public interface CartApi {
 
-    @Operation(summary = "장바구니 조회", description = "JWT 인증 사용자 기준 장바구니 목록과 요약 정보 조회")
+    @Operation(summary = "장바구니 조회", description = "JWT 인증 사용자 기준 장바구니 목록과 요약 정보 조회. "
+        + "응답의 ETag 를 If-None-Match 로 보내면 바뀌지 않았을 때 304 (본문 없음)")
     @ApiResponses({
-        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "조회 성공")
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "조회 성공"),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "304", description = "변경 없음")
     })
     ResponseEntity<ApiResponse<CartResponse>> getCart(
-        @Parameter(hidden = true) @CurrentUser UserContextHolder.UserContext user
+        @Parameter(hidden = true) @CurrentUser UserContextHolder.UserContext user,
+        @Parameter(hidden = true) WebRequest webRequest
     );
 
     @Operation(summary = "장바구니 담기", description = "상품을 장바구니에 추가")
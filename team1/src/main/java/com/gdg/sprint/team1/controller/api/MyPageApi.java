@@ -7,7 +7,7 @@ import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.Positive;
 
-import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.ResponseEntity;
 
 import com.gdg.sprint.team1.common.ApiResponse;
@@ -48,13 +48,13 @@ public interface MyPageApi {
 
     @Operation(
             summary = "내 주문 목록",
-            description = "기간(1/3/6개월) + 상태 필터로 내 주문 목록을 조회합니다.",
+            description = "기간(1/3/6개월) + 상태 필터로 내 주문 목록을 조회합니다. 전체 개수 없이 다음 페이지 존재 여부(last)만 제공합니다.",
             security = @SecurityRequirement(name = "bearerAuth")
     )
     @ApiResponses({
             @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "조회 성공")
     })
-    ResponseEntity<ApiResponse<Page<OrderResponse>>> getMyOrders(
+    ResponseEntity<ApiResponse<Slice<OrderResponse>>> getMyOrders(
             @Parameter(hidden = true) @CurrentUser UserContextHolder.UserContext user,
             @Parameter(description = "페이지 번호 (기본: 1)", example = "1") @Min(1) Integer page,
             @Parameter(description = "페이지당 항목 수 (기본: 10)", example = "10") @Min(1) @Max(100) Integer limit,
@@ -4,12 +4,14 @@ import jakarta.validation.Valid;
 import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.Size;
 
-import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.ResponseEntity;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.enums.ParameterIn;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
@@ -18,10 +20,13 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import com.gdg.sprint.team1.common.ApiResponse;
 import com.gdg.sprint.team1.dto.order.CancelOrderRequest;
 import com.gdg.sprint.team1.dto.order.CancelOrderResponse;
+import com.gdg.sprint.team1.dto.order.CartOrderPreviewRequest;
 import com.gdg.sprint.team1.dto.order.CreateOrderFromCartRequest;
 import com.gdg.sprint.team1.dto.order.CreateOrderRequest;
 import com.gdg.sprint.team1.dto.order.CreateOrderResponse;
 import com.gdg.sprint.team1.dto.order.OrderDetailResponse;
+import com.gdg.sprint.team1.dto.order.OrderPreviewRequest;
+import com.gdg.sprint.team1.dto.order.OrderPreviewResponse;
 import com.gdg.sprint.team1.dto.order.OrderResponse;
 import com.gdg.sprint.team1.security.CurrentUser;
 import com.gdg.sprint.team1.security.UserContextHolder;
@@ -30,29 +35,63 @@ import com.gdg.sprint.team1.security.UserContextHolder;
 @SecurityRequirement(name = "bearerAuth")
 public interface OrderApi {
 
-    @Operation(summary = "주문 생성 (직접 입력)", description = "상품 목록 직접 입력. 재고 확인, 쿠폰 검증, 배송비(3만원 이상 무료), 재고 차감·쿠폰 사용 처리")
+    @Operation(summary = "주문 생성 (직접 입력)", description = "상품 목록 직접 입력. 재고 확인, 쿠폰 검증, 배송비(3만원 이상 무료), 재고 차감·쿠폰 사용 처리. Idempotency-Key 헤더로 재시도 중복 생성 방지")
     @ApiResponses({
-        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "201", description = "주문 생성됨")
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "201", description = "주문 생성됨 (재시도면 처음 결과)"),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "409", description = "같은 Idempotency-Key 로 다른 내용의 요청")
     })
     ResponseEntity<ApiResponse<CreateOrderResponse>> createOrder(
         @Parameter(hidden = true) @CurrentUser UserContextHolder.UserContext user,
+        @Parameter(
+            in = ParameterIn.HEADER,
+            name = "Idempotency-Key",
+            description = "재시도 시 같은 값을 보내면 주문을 다시 만들지 않고 처음 결과를 돌려줌 (응답 헤더 Idempotent-Replayed: true). 최대 64자",
+            example = "7f1c2a9e-3b1d-4c55-9a0e-2d8f6b1e4c21"
+        ) @Size(min = 1, max = 64) String idempotencyKey,
         @Valid CreateOrderRequest request
     );
 
-    @Operation(summary = "주문 생성 (장바구니)", description = "장바구니 상품으로 주문. 장바구니 조회·재고 확인·주문 생성·장바구니 비우기")
+    @Operation(summary = "주문 생성 (장바구니)", description = "장바구니 상품으로 주문. 장바구니 조회·재고 확인·주문 생성·장바구니 비우기. Idempotency-Key 헤더로 재시도 중복 생성 방지")
     @ApiResponses({
-        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "201", description = "주문 생성됨")
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "201", description = "주문 생성됨 (재시도면 처음 결과)"),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "409", description = "같은 Idempotency-Key 로 다른 내용의 요청")
     })
     ResponseEntity<ApiResponse<CreateOrderResponse>> createOrderFromCart(
         @Parameter(hidden = true) @CurrentUser UserContextHolder.UserContext user,
+        @Parameter(
+            in = ParameterIn.HEADER,
+            name = "Idempotency-Key",
+            description = "재시도 시 같은 값을 보내면 주문을 다시 만들지 않고 처음 결과를 돌려줌 (응답 헤더 Idempotent-Replayed: true). 최대 64자",
+            example = "7f1c2a9e-3b1d-4c55-9a0e-2d8f6b1e4c21"
+        ) @Size(min = 1, max = 64) String idempotencyKey,
         @Valid CreateOrderFromCartRequest request
     );
 
-    @Operation(summary = "주문 목록 조회", description = "내 주문 목록 페이징. 상태 필터(PENDING, CONFIRMED, SHIPPING, DELIVERED, CANCELLED) 지원")
+    @Operation(summary = "주문 금액 미리보기 (직접 입력)", description = "주문 생성과 같은 계산으로 상품 금액·할인·배송비·최종 금액을 돌려줌. 재고 차감·쿠폰 사용·주문 저장 없음. 재고 부족/쿠폰 최소 주문 금액 미달은 오류 대신 응답에 표시")
+    @ApiResponses({
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "계산 성공"),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "404", description = "상품 또는 쿠폰 없음")
+    })
+    ResponseEntity<ApiResponse<OrderPreviewResponse>> previewOrder(
+        @Parameter(hidden = true) @CurrentUser UserContextHolder.UserContext user,
+        @Valid OrderPreviewRequest request
+    );
+
+    @Operation(summary = "주문 금액 미리보기 (장바구니)", description = "현재 장바구니 상품으로 금액 미리보기. 요청 본문(쿠폰)은 생략 가능")
+    @ApiResponses({
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "계산 성공"),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "장바구니가 비어 있음")
+    })
+    ResponseEntity<ApiResponse<OrderPreviewResponse>> previewOrderFromCart(
+        @Parameter(hidden = true) @CurrentUser UserContextHolder.UserContext user,
+        CartOrderPreviewRequest request
+    );
+
+    @Operation(summary = "주문 목록 조회", description = "내 주문 목록 페이징(최신순). 상태 필터(PENDING, CONFIRMED, SHIPPING, DELIVERED, CANCELLED) 지원. 전체 개수 없이 다음 페이지 존재 여부(last)만 제공")
     @ApiResponses({
         @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "조회 성공")
     })
-    ResponseEntity<ApiResponse<Page<OrderResponse>>> getOrders(
+    ResponseEntity<ApiResponse<Slice<OrderResponse>>> getOrders(
         @Parameter(hidden = true) @CurrentUser UserContextHolder.UserContext user,
         @Parameter(description = "페이지 번호 (기본: 1)", example = "1") @Min(1) Integer page,
         @Parameter(description = "페이지당 항목 수 (기본: 10)", example = "10") @Min(1) @Max(100) Integer limit,
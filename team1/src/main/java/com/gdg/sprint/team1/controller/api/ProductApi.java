@@ -3,6 +3,7 @@ package com.gdg.sprint.team1.controller.api;
 import java.math.BigDecimal;
 
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.WebRequest;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -16,9 +17,11 @@ import com.gdg.sprint.team1.dto.product.ProductListResponse;
 @Tag(name = "메뉴(상품) API", description = "상품 목록·상세 조회")
 public interface ProductApi {
 
-    @Operation(summary = "상품 목록 조회", description = "페이지네이션, 상태/가격 필터, 검색어, 정렬(최신순/가격순/이름순) 지원")
+    @Operation(summary = "상품 목록 조회", description = "페이지네이션(페이지 번호 또는 커서), 상태/가격 필터, 검색어, 정렬(최신순/가격순/이름순) 지원. "
+        + "응답의 ETag 를 If-None-Match 로 보내면 바뀌지 않았을 때 304 (본문 없음)")
     @ApiResponses({
-        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "조회 성공")
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "조회 성공"),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "304", description = "변경 없음")
     })
     ResponseEntity<ApiResponse<ProductListResponse>> getProductList(
         @Parameter(description = "페이지 번호 (기본: 1)", example = "1") Integer page,
@@ -28,16 +31,22 @@ public interface ProductApi {
         @Parameter(description = "최소 가격", example = "5000") BigDecimal min_price,
         @Parameter(description = "최대 가격", example = "15000") BigDecimal max_price,
         @Parameter(description = "품절 제외 여부", example = "true") Boolean excludeSoldOut,
-        @Parameter(description = "정렬 기준 (created_at, price, name)", example = "price") String sort,
-        @Parameter(description = "정렬 순서 (asc, desc)", example = "asc") String order
+        @Parameter(description = "정렬 기준 (created_at, price, name, relevance - 검색어가 있을 때 관련도순, 커서 모드 미지원)", example = "price") String sort,
+        @Parameter(description = "정렬 순서 (asc, desc)", example = "asc") String order,
+        @Parameter(description = "커서 페이지네이션 (무한 스크롤용). 빈 값이면 첫 페이지, 이후 응답의 next_cursor 전달. "
+            + "지정 시 page 는 무시되고 total_pages/total_items 는 내려가지 않음") String cursor,
+        @Parameter(hidden = true) WebRequest webRequest
     );
 
-    @Operation(summary = "상품 상세 조회", description = "상품 상세 정보(재고, 상태, 설명 등)")
+    @Operation(summary = "상품 상세 조회", description = "상품 상세 정보(재고, 상태, 설명 등). "
+        + "응답의 ETag 를 If-None-Match 로 보내면 바뀌지 않았을 때 304 (본문 없음)")
     @ApiResponses({
         @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "조회 성공"),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "304", description = "변경 없음"),
         @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "404", description = "상품 없음")
     })
     ResponseEntity<ApiResponse<ProductDetailDto>> getProductDetail(
-        @Parameter(description = "상품 ID", example = "1") Long productId
+        @Parameter(description = "상품 ID", example = "1") Long productId,
+        @Parameter(hidden = true) WebRequest webRequest
     );
 }
@@ -32,6 +32,22 @@ public class CartItem {
         setQuantity(quantity);
     }
 
+    /**
+     * 저장소(InMemoryCartStore)가 보관 중인 값을 조회용으로 복사한 분리(detached) 객체. 영속화하지 않습니다.
+     */
+    public static CartItem snapshot(
+        Integer userId,
+        Long productId,
+        int quantity,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt
+    ) {
+        CartItem item = new CartItem(userId, productId, quantity);
+        item.createdAt = createdAt;
+        item.updatedAt = updatedAt;
+        return item;
+    }
+
     @PrePersist
     protected void onCreate() {
         LocalDateTime now = LocalDateTime.now();
@@ -0,0 +1,231 @@
+package com.gdg.sprint.team1.domain.cart;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import com.gdg.sprint.team1.common.ETags;
+import com.gdg.sprint.team1.dto.cart.CartItemResponse;
+import com.gdg.sprint.team1.dto.cart.CartResponse;
+import com.gdg.sprint.team1.dto.cart.CartSummary;
+
+/**
+ * 사용자 장바구니의 계산 결과(항목별 소계, 합계, 배송비)를 보관하는 불변 객체.
+ * <p>
+ * 항목이 바뀔 때는 바뀐 항목의 소계만 빼고 더해 합계를 갱신하고(withLine/withoutLine),
+ * 응답(CartResponse)은 만들 때 한 번만 계산해 두어 조회는 필드 하나를 읽는 것으로 끝납니다.
+ * 상품 가격/재고가 바뀌면 해당 상품을 stale 로 표시하고, 다음 조회 때 그 항목만 다시 계산합니다.
+ * 응답과 함께 항목 값(수량, 담은/수정 시각, 상품 정보)으로 만든 version 을 두어 조회 ETag 로 사용합니다.
+ */
+public final class CartView {
+
+    private static final BigDecimal FREE_DELIVERY_THRESHOLD = new BigDecimal("30000");
+    private static final BigDecimal DEFAULT_DELIVERY_FEE = new BigDecimal("3000");
+    private static final String ACTIVE = "ACTIVE";
+
+    /** 장바구니 한 줄. 상품이 없으면 name/status 는 null, 가격은 0 */
+    public record Line(
+        Long productId,
+        String productName,
+        BigDecimal productPrice,
+        String productStatus,
+        int quantity,
+        BigDecimal subtotal,
+        boolean available,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt
+    ) {
+        public static Line of(
+            Long productId,
+            String productName,
+            BigDecimal productPrice,
+            String productStatus,
+            Integer stock,
+            int quantity,
+            LocalDateTime createdAt,
+            LocalDateTime updatedAt
+        ) {
+            BigDecimal price = productPrice != null ? productPrice : BigDecimal.ZERO;
+            boolean available = ACTIVE.equals(productStatus) && stock != null && stock >= quantity;
+            return new Line(
+                productId,
+                productName,
+                price,
+                productStatus,
+                quantity,
+                price.multiply(BigDecimal.valueOf(quantity)),
+                available,
+                createdAt,
+                updatedAt
+            );
+        }
+
+        private CartItemResponse toResponse() {
+            return new CartItemResponse(
+                productId,
+                productName,
+                productPrice,
+                productStatus,
+                quantity,
+                subtotal,
+                available,
+                createdAt,
+                updatedAt
+            );
+        }
+    }
+
+    private final Integer userId;
+    private final Map<Long, Line> lines;
+    private final Set<Long> staleProductIds;
+    private final int totalQuantity;
+    private final BigDecimal totalProductPrice;
+    private final CartResponse response;
+    private final String version;
+
+    private CartView(
+        Integer userId,
+        Map<Long, Line> lines,
+        Set<Long> staleProductIds,
+        int totalQuantity,
+        BigDecimal totalProductPrice
+    ) {
+        this.userId = userId;
+        this.lines = lines;
+        this.staleProductIds = staleProductIds;
+        this.totalQuantity = totalQuantity;
+        this.totalProductPrice = totalProductPrice;
+        this.response = buildResponse();
+        this.version = buildVersion();
+    }
+
+    public static CartView of(Integer userId, Collection<Line> lines) {
+        Map<Long, Line> map = new LinkedHashMap<>();
+        int quantity = 0;
+        BigDecimal total = BigDecimal.ZERO;
+        for (Line line : lines) {
+            map.put(line.productId(), line);
+            quantity += line.quantity();
+            total = total.add(line.subtotal());
+        }
+        return new CartView(userId, map, Set.of(), quantity, total);
+    }
+
+    /** 항목 추가/교체. 합계는 이전 항목과의 차이만큼 갱신합니다. */
+    public CartView withLine(Line line) {
+        Map<Long, Line> map = new LinkedHashMap<>(lines);
+        Line previous = map.put(line.productId(), line);
+        int quantity = totalQuantity + line.quantity();
+        BigDecimal total = totalProductPrice.add(line.subtotal());
+        if (previous != null) {
+            quantity -= previous.quantity();
+            total = total.subtract(previous.subtotal());
+        }
+        return new CartView(userId, map, without(staleProductIds, line.productId()), quantity, total);
+    }
+
+    public CartView withoutLine(Long productId) {
+        Line previous = lines.get(productId);
+        if (previous == null) {
+            return this;
+        }
+        Map<Long, Line> map = new LinkedHashMap<>(lines);
+        map.remove(productId);
+        return new CartView(
+            userId,
+            map,
+            without(staleProductIds, productId),
+            totalQuantity - previous.quantity(),
+            totalProductPrice.subtract(previous.subtotal())
+        );
+    }
+
+    /** 상품 정보가 바뀐 항목 표시. 담겨 있지 않은 상품이면 그대로 반환합니다. */
+    public CartView markStale(Long productId) {
+        if (!lines.containsKey(productId) || staleProductIds.contains(productId)) {
+            return this;
+        }
+        Set<Long> stale = new HashSet<>(staleProductIds);
+        stale.add(productId);
+        return new CartView(userId, lines, Set.copyOf(stale), totalQuantity, totalProductPrice);
+    }
+
+    public Line line(Long productId) {
+        return lines.get(productId);
+    }
+
+    public Set<Long> productIds() {
+        return lines.keySet();
+    }
+
+    public Set<Long> staleProductIds() {
+        return staleProductIds;
+    }
+
+    public boolean hasStaleLines() {
+        return !staleProductIds.isEmpty();
+    }
+
+    public CartResponse response() {
+        return response;
+    }
+
+    public String version() {
+        return version;
+    }
+
+    private CartResponse buildResponse() {
+        List<CartItemResponse> items = new ArrayList<>(lines.size());
+        for (Line line : lines.values()) {
+            items.add(line.toResponse());
+        }
+        BigDecimal deliveryFee = deliveryFee(totalProductPrice);
+        CartSummary summary = new CartSummary(
+            items.size(),
+            totalQuantity,
+            totalProductPrice,
+            deliveryFee,
+            totalProductPrice.add(deliveryFee)
+        );
+        return new CartResponse(userId, List.copyOf(items), summary);
+    }
+
+    private String buildVersion() {
+        ETags.Builder builder = ETags.builder().add(userId);
+        for (Line line : lines.values()) {
+            builder.add(line.productId())
+                .add(line.quantity())
+                .add(line.productName())
+                .add(line.productPrice())
+                .add(line.productStatus())
+                .add(line.available())
+                .add(line.createdAt())
+                .add(line.updatedAt());
+        }
+        return builder.build();
+    }
+
+    public static BigDecimal deliveryFee(BigDecimal totalProductPrice) {
+        if (totalProductPrice == null || totalProductPrice.compareTo(BigDecimal.ZERO) == 0) {
+            return BigDecimal.ZERO;
+        }
+        return totalProductPrice.compareTo(FREE_DELIVERY_THRESHOLD) >= 0
+            ? BigDecimal.ZERO
+            : DEFAULT_DELIVERY_FEE;
+    }
+
+    private static Set<Long> without(Set<Long> ids, Long id) {
+        if (!ids.contains(id)) {
+            return ids;
+        }
+        Set<Long> copy = new HashSet<>(ids);
+        copy.remove(id);
+        return Set.copyOf(copy);
+    }
+}
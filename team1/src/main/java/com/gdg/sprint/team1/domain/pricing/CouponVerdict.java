@@ -0,0 +1,14 @@
+package com.gdg.sprint.team1.domain.pricing;
+
+/** 금액 계산 시 쿠폰 적용 판정 */
+public enum CouponVerdict {
+    /** 쿠폰 없음 */
+    NONE,
+    APPLIED,
+    /** 상품 금액 합계가 쿠폰 최소 주문 금액 미만 (할인 0) */
+    MIN_ORDER_NOT_MET;
+
+    public boolean isRejected() {
+        return this == MIN_ORDER_NOT_MET;
+    }
+}
@@ -0,0 +1,26 @@
+package com.gdg.sprint.team1.domain.pricing;
+
+import java.math.BigDecimal;
+
+import com.gdg.sprint.team1.dto.pricing.CouponType;
+
+/**
+ * 쿠폰 할인 내역.
+ *
+ * @param discountValue PERCENTAGE 면 %, FIXED 면 원
+ * @param minOrderPrice 최소 주문 금액 (없으면 0)
+ * @param calculated    쿠폰 조건대로 계산한 할인 금액
+ * @param applied       실제 적용 금액 (상품 금액 합계를 넘지 않음, 최소 주문 금액 미달이면 0)
+ */
+public record DiscountBreakdown(
+    CouponType type,
+    BigDecimal discountValue,
+    Money minOrderPrice,
+    Money calculated,
+    Money applied
+) {
+    /** 상품 금액 합계를 넘어 잘렸는지 */
+    public boolean isCapped() {
+        return applied.isLessThan(calculated);
+    }
+}
@@ -0,0 +1,100 @@
+package com.gdg.sprint.team1.domain.pricing;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * 금액(원) 고정 소수점 표현. DECIMAL(10, 2) 컬럼과 같은 소수 2자리를 long 최소 단위(1/100 원)로 보관합니다.
+ * <p>
+ * 금액 계산 내부에서만 사용하고, 엔티티/DTO 경계에서 BigDecimal 로 변환합니다.
+ * 반올림은 기존 BigDecimal 계산과 같은 HALF_UP(0.5 는 0 에서 먼 쪽)이며, 넘침은 ArithmeticException 입니다.
+ */
+public record Money(long minor) implements Comparable<Money> {
+
+    public static final int SCALE = 2;
+    public static final Money ZERO = new Money(0);
+
+    private static final long MINOR_PER_UNIT = 100;
+    /** 퍼센트 할인율 단위 (기존 계산의 discountValue / 100 을 소수 4자리로 반올림한 값) */
+    private static final long RATE_DENOMINATOR = 10_000;
+
+    /** 원 단위 정수 금액 */
+    public static Money won(long amount) {
+        return new Money(Math.multiplyExact(amount, MINOR_PER_UNIT));
+    }
+
+    /** 소수 2자리로 HALF_UP 반올림. null 은 0 */
+    public static Money of(BigDecimal value) {
+        if (value == null) {
+            return ZERO;
+        }
+        return new Money(value.setScale(SCALE, RoundingMode.HALF_UP).unscaledValue().longValueExact());
+    }
+
+    /**
+     * 기준 금액 이상인지 비교할 때 쓰는 하한. 소수 3자리 이상인 기준도 정확히 비교하도록 올림합니다.
+     * (정수 최소 단위 m 에 대해 m &lt; x ⇔ m &lt; ceil(x))
+     */
+    public static Money ceilingOf(BigDecimal value) {
+        if (value == null) {
+            return ZERO;
+        }
+        return new Money(value.setScale(SCALE, RoundingMode.CEILING).unscaledValue().longValueExact());
+    }
+
+    public Money plus(Money other) {
+        return new Money(Math.addExact(minor, other.minor));
+    }
+
+    public Money minus(Money other) {
+        return new Money(Math.subtractExact(minor, other.minor));
+    }
+
+    public Money times(int quantity) {
+        return new Money(Math.multiplyExact(minor, quantity));
+    }
+
+    /**
+     * 퍼센트 금액. percent 를 먼저 소수 4자리 비율로 반올림한 뒤 곱하고, 결과를 소수 2자리로 반올림합니다.
+     * 기존: total.multiply(percent.divide(100, 4, HALF_UP)).setScale(2, HALF_UP)
+     */
+    public Money percent(BigDecimal percent) {
+        long rate = percent.movePointRight(2).setScale(0, RoundingMode.HALF_UP).longValueExact();
+        return new Money(divideHalfUp(Math.multiplyExact(minor, rate), RATE_DENOMINATOR));
+    }
+
+    public Money min(Money other) {
+        return minor <= other.minor ? this : other;
+    }
+
+    public boolean isZero() {
+        return minor == 0;
+    }
+
+    public boolean isLessThan(Money other) {
+        return minor < other.minor;
+    }
+
+    public BigDecimal toBigDecimal() {
+        return BigDecimal.valueOf(minor, SCALE);
+    }
+
+    @Override
+    public int compareTo(Money other) {
+        return Long.compare(minor, other.minor);
+    }
+
+    @Override
+    public String toString() {
+        return toBigDecimal().toPlainString();
+    }
+
+    private static long divideHalfUp(long dividend, long divisor) {
+        long quotient = dividend / divisor;
+        long remainder = dividend % divisor;
+        if (Math.abs(remainder) * 2 >= divisor) {
+            quotient += Long.signum(dividend);
+        }
+        return quotient;
+    }
+}
@@ -0,0 +1,30 @@
+package com.gdg.sprint.team1.domain.pricing;
+
+import com.gdg.sprint.team1.dto.pricing.PriceCalculationResult;
+
+/**
+ * 한 번의 계산으로 만든 주문 금액 결과 (합계, 쿠폰 판정, 할인 내역).
+ * 금액은 Money 로 보관하고, 엔티티/응답에는 toResult() 등으로 변환해 사용합니다.
+ *
+ * @param discount 쿠폰이 없으면 null
+ */
+public record PriceQuote(
+    Money totalProductPrice,
+    Money discountAmount,
+    Money deliveryFee,
+    Money finalPrice,
+    CouponVerdict couponVerdict,
+    DiscountBreakdown discount
+) {
+    public static final PriceQuote EMPTY = new PriceQuote(
+        Money.ZERO, Money.ZERO, Money.ZERO, Money.ZERO, CouponVerdict.NONE, null);
+
+    public PriceCalculationResult toResult() {
+        return new PriceCalculationResult(
+            totalProductPrice.toBigDecimal(),
+            discountAmount.toBigDecimal(),
+            deliveryFee.toBigDecimal(),
+            finalPrice.toBigDecimal()
+        );
+    }
+}
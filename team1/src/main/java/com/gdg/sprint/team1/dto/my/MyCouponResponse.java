@@ -4,8 +4,6 @@ import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 
-import com.gdg.sprint.team1.entity.UserCoupon;
-
 import io.swagger.v3.oas.annotations.media.Schema;
 
 @Schema(description = "마이페이지 보유 쿠폰 응답")
@@ -39,22 +37,22 @@ public record MyCouponResponse(
     Long expiresInDays
 
 ) {
-    public static MyCouponResponse from(UserCoupon uc) {
-        boolean usable = uc.isUsable();
+    public static MyCouponResponse from(UserCouponSnapshot uc) {
+        boolean usable = uc.isUsable(LocalDateTime.now());
         long days = 0L;
-        if (usable && uc.getExpiredAt() != null) {
-            days = java.time.temporal.ChronoUnit.DAYS.between(LocalDate.now(), uc.getExpiredAt().toLocalDate());
+        if (usable && uc.expiredAt() != null) {
+            days = java.time.temporal.ChronoUnit.DAYS.between(LocalDate.now(), uc.expiredAt().toLocalDate());
             if (days < 0) days = 0L;
         }
 
         return new MyCouponResponse(
-            uc.getId(),
-            uc.getCoupon().getName(),
-            uc.getCoupon().getMinOrderPrice(),
-            uc.getCoupon().getDiscountValue(),
-            uc.getCoupon().getCouponType().name(),
-            uc.getExpiredAt(),
-            uc.getUsedAt(),
+            uc.userCouponId(),
+            uc.couponName(),
+            uc.minOrderPrice(),
+            uc.discountValue(),
+            uc.couponType(),
+            uc.expiredAt(),
+            uc.usedAt(),
             usable,
             days
         );
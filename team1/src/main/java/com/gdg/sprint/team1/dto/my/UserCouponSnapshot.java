@@ -0,0 +1,40 @@
+package com.gdg.sprint.team1.dto.my;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import com.gdg.sprint.team1.entity.UserCoupon;
+
+/**
+ * 보유 쿠폰 캐시 값. 엔티티 대신 응답에 필요한 컬럼만 담습니다.
+ */
+public record UserCouponSnapshot(
+    Integer userCouponId,
+    String couponName,
+    BigDecimal minOrderPrice,
+    BigDecimal discountValue,
+    String couponType,
+    LocalDateTime expiredAt,
+    LocalDateTime usedAt
+) {
+    public static UserCouponSnapshot from(UserCoupon uc) {
+        return new UserCouponSnapshot(
+            uc.getId(),
+            uc.getCoupon().getName(),
+            uc.getCoupon().getMinOrderPrice(),
+            uc.getCoupon().getDiscountValue(),
+            uc.getCoupon().getCouponType().name(),
+            uc.getExpiredAt(),
+            uc.getUsedAt()
+        );
+    }
+
+    /** UserCoupon.isUsable 과 같은 기준 */
+    public boolean isUsable(LocalDateTime now) {
+        return usedAt == null && expiredAt.isAfter(now);
+    }
+
+    public boolean isExpired(LocalDateTime now) {
+        return usedAt == null && expiredAt != null && !expiredAt.isAfter(now);
+    }
+}
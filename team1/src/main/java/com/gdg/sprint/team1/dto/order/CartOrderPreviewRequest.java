@@ -0,0 +1,14 @@
+package com.gdg.sprint.team1.dto.order;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "주문 금액 미리보기 요청 (장바구니)")
+public record CartOrderPreviewRequest(
+
+    @Schema(
+        description = "적용해 볼 쿠폰 ID (UserCoupons 테이블의 ID)",
+        example = "5",
+        nullable = true
+    )
+    Integer userCouponId
+) {}
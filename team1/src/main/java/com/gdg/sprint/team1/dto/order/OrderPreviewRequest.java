@@ -0,0 +1,28 @@
+package com.gdg.sprint.team1.dto.order;
+
+import java.util.List;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "주문 금액 미리보기 요청 (직접 입력)")
+public record OrderPreviewRequest(
+
+    @Schema(
+        description = "주문 상품 목록",
+        example = "[{\"product_id\": 1, \"quantity\": 2}, {\"product_id\": 3, \"quantity\": 1}]",
+        requiredMode = Schema.RequiredMode.REQUIRED
+    )
+    @NotEmpty(message = "주문 상품 목록은 필수입니다.")
+    @Valid
+    List<CreateOrderRequest.OrderItemRequest> items,
+
+    @Schema(
+        description = "적용해 볼 쿠폰 ID (UserCoupons 테이블의 ID)",
+        example = "5",
+        nullable = true
+    )
+    Integer userCouponId
+) {}
@@ -0,0 +1,108 @@
+package com.gdg.sprint.team1.dto.order;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import com.gdg.sprint.team1.domain.pricing.DiscountBreakdown;
+import com.gdg.sprint.team1.domain.pricing.Money;
+import com.gdg.sprint.team1.domain.pricing.PriceQuote;
+import com.gdg.sprint.team1.dto.pricing.PriceCalculationResult;
+
+@Schema(description = "주문 금액 미리보기 응답. 금액은 주문 생성 시와 같은 계산(PriceCalculationService)으로 구합니다.")
+public record OrderPreviewResponse(
+
+    @Schema(description = "상품별 금액")
+    List<Item> items,
+
+    @Schema(description = "금액 합계 (상품 금액, 할인, 배송비, 최종 금액)")
+    PriceCalculationResult price,
+
+    @Schema(description = "쿠폰 적용 결과 (쿠폰을 지정하지 않았으면 null)", nullable = true)
+    CouponPreview coupon,
+
+    @Schema(description = "지금 이대로 주문할 수 있는지 (재고 부족 상품이 없고 쿠폰 조건을 충족)", example = "true")
+    boolean orderable
+) {
+
+    @Schema(description = "상품별 금액")
+    public record Item(
+
+        @Schema(description = "상품 ID", example = "1")
+        Long productId,
+
+        @Schema(description = "상품명", example = "무선 마우스")
+        String productName,
+
+        @Schema(description = "단가", example = "25000.00")
+        BigDecimal unitPrice,
+
+        @Schema(description = "수량", example = "2")
+        Integer quantity,
+
+        @Schema(description = "소계 (단가 × 수량)", example = "50000.00")
+        BigDecimal subtotal,
+
+        @Schema(description = "현재 재고로 주문 가능한지", example = "true")
+        boolean available
+    ) {}
+
+    @Schema(description = "쿠폰 적용 결과")
+    public record CouponPreview(
+
+        @Schema(description = "사용자 쿠폰 ID", example = "5")
+        Integer userCouponId,
+
+        @Schema(description = "할인 유형", example = "PERCENTAGE", allowableValues = {"PERCENTAGE", "FIXED"})
+        String couponType,
+
+        @Schema(description = "할인 값 (PERCENTAGE 면 %, FIXED 면 원)", example = "10")
+        BigDecimal discountValue,
+
+        @Schema(description = "최소 주문 금액", example = "30000.00")
+        BigDecimal minOrderPrice,
+
+        @Schema(description = "판정 결과", example = "APPLIED", allowableValues = {"APPLIED", "MIN_ORDER_NOT_MET"})
+        String verdict,
+
+        @Schema(description = "쿠폰 조건대로 계산한 할인 금액", example = "5000.00")
+        BigDecimal calculatedDiscount,
+
+        @Schema(description = "실제 적용되는 할인 금액 (상품 금액 합계 한도, 최소 주문 금액 미달이면 0)", example = "5000.00")
+        BigDecimal appliedDiscount,
+
+        @Schema(description = "최소 주문 금액까지 남은 금액 (충족했으면 0)", example = "0.00")
+        BigDecimal shortfall
+    ) {}
+
+    public static OrderPreviewResponse of(List<Item> items, PriceQuote quote, Integer userCouponId) {
+        boolean allAvailable = items.stream().allMatch(Item::available);
+        return new OrderPreviewResponse(
+            items,
+            quote.toResult(),
+            toCouponPreview(quote, userCouponId),
+            allAvailable && !quote.couponVerdict().isRejected()
+        );
+    }
+
+    private static CouponPreview toCouponPreview(PriceQuote quote, Integer userCouponId) {
+        DiscountBreakdown discount = quote.discount();
+        if (discount == null) {
+            return null;
+        }
+        Money shortfall = quote.couponVerdict().isRejected()
+            ? discount.minOrderPrice().minus(quote.totalProductPrice())
+            : Money.ZERO;
+        return new CouponPreview(
+            userCouponId,
+            discount.type().name(),
+            discount.discountValue(),
+            discount.minOrderPrice().toBigDecimal(),
+            quote.couponVerdict().name(),
+            discount.calculated().toBigDecimal(),
+            discount.applied().toBigDecimal(),
+            shortfall.toBigDecimal()
+        );
+    }
+}
@@ -38,6 +38,31 @@ public record OrderResponse(
     @Schema(description = "주문 상품 개수", example = "2")
     Integer itemCount
 ) {
+    /** 주문 목록 DTO projection (OrderRepository.findSummariesByIdIn) 용 */
+    public OrderResponse(
+        Integer id,
+        Order.OrderStatus orderStatus,
+        BigDecimal totalProductPrice,
+        BigDecimal discountAmount,
+        BigDecimal deliveryFee,
+        BigDecimal finalPrice,
+        String deliveryAddress,
+        LocalDateTime createdAt,
+        Long itemCount
+    ) {
+        this(
+            id,
+            orderStatus.name(),
+            totalProductPrice,
+            discountAmount,
+            deliveryFee,
+            finalPrice,
+            deliveryAddress,
+            createdAt,
+            itemCount != null ? itemCount.intValue() : 0
+        );
+    }
+
     public static OrderResponse from(Order order) {
         return new OrderResponse(
             order.getId(),
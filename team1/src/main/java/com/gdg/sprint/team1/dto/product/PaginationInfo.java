@@ -4,10 +4,28 @@ import com.fasterxml.jackson.annotation.JsonInclude;
 
 @JsonInclude(JsonInclude.Include.NON_NULL)
 public record PaginationInfo(
-    int currentPage,
-    int totalPages,
-    long totalItems,
+    Integer currentPage,
+    Integer totalPages,
+    Long totalItems,
     int itemsPerPage,
     boolean hasNext,
-    boolean hasPrev
-) {}
+    boolean hasPrev,
+    String nextCursor
+) {
+
+    public PaginationInfo(
+        int currentPage,
+        int totalPages,
+        long totalItems,
+        int itemsPerPage,
+        boolean hasNext,
+        boolean hasPrev
+    ) {
+        this(currentPage, totalPages, totalItems, itemsPerPage, hasNext, hasPrev, null);
+    }
+
+    /** 커서 모드: COUNT 쿼리를 생략하므로 페이지 수/전체 개수는 내려주지 않습니다. */
+    public static PaginationInfo cursor(int itemsPerPage, boolean hasNext, boolean hasPrev, String nextCursor) {
+        return new PaginationInfo(null, null, null, itemsPerPage, hasNext, hasPrev, nextCursor);
+    }
+}
@@ -0,0 +1,48 @@
+package com.gdg.sprint.team1.dto.product;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import com.gdg.sprint.team1.entity.Product;
+
+/**
+ * 상품 목록 커서(keyset) 페이지네이션용 커서.
+ * 마지막 행의 정렬 값과 id 를 "정렬|방향|id|값" 형태로 묶어 Base64URL 로 인코딩한 불투명 문자열입니다.
+ */
+public record ProductCursor(
+    String sortProperty,
+    boolean ascending,
+    Long id,
+    String value
+) {
+
+    private static final String DELIMITER = "|";
+
+    public static ProductCursor of(String sortProperty, boolean ascending, Product last) {
+        String value = switch (sortProperty) {
+            case "price" -> last.getPrice().toPlainString();
+            case "name" -> last.getName();
+            default -> last.getCreatedAt().toString();
+        };
+        return new ProductCursor(sortProperty, ascending, last.getId(), value);
+    }
+
+    public String encode() {
+        String raw = String.join(DELIMITER, sortProperty, ascending ? "a" : "d", String.valueOf(id), value);
+        return Base64.getUrlEncoder().withoutPadding()
+            .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static ProductCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", 4);
+            if (parts.length != 4) {
+                throw new IllegalArgumentException("유효하지 않은 커서입니다.");
+            }
+            return new ProductCursor(parts[0], "a".equals(parts[1]), Long.valueOf(parts[2]), parts[3]);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("유효하지 않은 커서입니다.");
+        }
+    }
+}
@@ -12,5 +12,7 @@ public record ProductDetailDto(
     String productStatus,
     String imageUrl,
     Instant createdAt,
-    Instant updatedAt
+    Instant updatedAt,
+    // 상품이 바뀔 때마다(재고 차감 포함) 증가. 상세 조회 ETag 로 사용
+    Long version
 ) {}
@@ -7,6 +7,6 @@ import com.fasterxml.jackson.annotation.JsonInclude;
 @JsonInclude(JsonInclude.Include.NON_NULL)
 public record SearchInfo(
     String keyword,
-    long resultCount,
+    Long resultCount,
     Map<String, Object> filtersApplied
 ) {}
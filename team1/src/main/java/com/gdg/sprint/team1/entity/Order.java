@@ -87,6 +87,10 @@ public class Order {
     @Column(name = "cancel_reason", length = 500)
     private String cancelReason;
 
+    @Getter
+    @Column(name = "idempotency_key", length = 64)
+    private String idempotencyKey;
+
     @Getter
     @OneToMany(mappedBy = "order", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<OrderItem> orderItems = new ArrayList<>();
@@ -130,6 +134,11 @@ public class Order {
         return order;
     }
 
+    /** 클라이언트가 보낸 Idempotency-Key. 저장 전에만 지정합니다. */
+    public void assignIdempotencyKey(String idempotencyKey) {
+        this.idempotencyKey = idempotencyKey;
+    }
+
     public void cancel(String cancelReason) {
         this.orderStatus = OrderStatus.CANCELLED;
         this.cancelReason = cancelReason;
@@ -43,6 +43,7 @@ public class Product {
     @Column(name = "image_url", columnDefinition = "TEXT")
     private String imageUrl;
 
+    @Getter
     @Version
     @Column(name = "version", nullable = false)
     private Long version = 0L;
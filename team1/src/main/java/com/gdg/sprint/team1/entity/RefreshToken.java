@@ -1,8 +1,12 @@
 package com.gdg.sprint.team1.entity;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
+import java.util.HexFormat;
 
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
@@ -26,8 +30,9 @@ public class RefreshToken {
     @JoinColumn(name = "user_id", nullable = false)
     private User user;
 
-    @Column(nullable = false, length = 512)
-    private String token;
+    // 토큰 원문 대신 SHA-256 digest (hex 64자)
+    @Column(name = "token_hash", nullable = false, length = 64, columnDefinition = "CHAR(64)")
+    private String tokenHash;
 
     @Column(name = "expires_at", nullable = false)
     private LocalDateTime expiresAt;
@@ -37,13 +42,23 @@ public class RefreshToken {
 
     protected RefreshToken() {}
 
-    public RefreshToken(User user, String token, LocalDateTime expiresAt) {
+    public RefreshToken(User user, String tokenHash, LocalDateTime expiresAt) {
         this.user = user;
-        this.token = token;
+        this.tokenHash = tokenHash;
         this.expiresAt = expiresAt;
         this.createdAt = LocalDateTime.now();
     }
 
+    /** 저장/조회에 쓰는 토큰 digest (SHA-256, 소문자 hex). MySQL SHA2(token, 256) 과 같은 값입니다. */
+    public static String hashOf(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 을 사용할 수 없습니다.", e);
+        }
+    }
+
     public static LocalDateTime fromEpochMilli(long millis) {
         return LocalDateTime.ofInstant(Instant.ofEpochMilli(millis), ZoneId.systemDefault());
     }
@@ -56,8 +71,8 @@ public class RefreshToken {
         return user;
     }
 
-    public String getToken() {
-        return token;
+    public String getTokenHash() {
+        return tokenHash;
     }
 
     public LocalDateTime getExpiresAt() {
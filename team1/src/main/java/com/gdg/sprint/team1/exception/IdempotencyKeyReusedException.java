@@ -0,0 +1,8 @@
+package com.gdg.sprint.team1.exception;
+
+public class IdempotencyKeyReusedException extends RuntimeException {
+
+    public IdempotencyKeyReusedException() {
+        super("같은 Idempotency-Key 로 다른 내용의 요청을 보낼 수 없습니다.");
+    }
+}
@@ -0,0 +1,12 @@
+package com.gdg.sprint.team1.exception;
+
+public class ServiceBusyException extends RuntimeException {
+
+    public ServiceBusyException() {
+        super("요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.");
+    }
+
+    public ServiceBusyException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
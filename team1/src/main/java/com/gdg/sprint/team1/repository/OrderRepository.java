@@ -1,23 +1,56 @@
 package com.gdg.sprint.team1.repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import com.gdg.sprint.team1.dto.order.OrderResponse;
 import com.gdg.sprint.team1.entity.Order;
 import com.gdg.sprint.team1.entity.Order.OrderStatus;
 
 public interface OrderRepository extends JpaRepository<Order, Integer> {
 
-    @EntityGraph(attributePaths = {"orderItems"})
-    Page<Order> findAllByUserId(Integer userId, Pageable pageable);
+    /**
+     * 주문 목록 1단계: 주문 id 만 최신순으로 limit + 1 건 조회 (COUNT 쿼리 없음).
+     * status, fromDate 는 null 이면 조건에서 제외됩니다.
+     */
+    @Query("""
+        select o.id from Order o
+        where o.user.id = :userId
+          and (:status is null or o.orderStatus = :status)
+          and (:fromDate is null or o.createdAt >= :fromDate)
+        order by o.createdAt desc, o.id desc
+        """)
+    Slice<Integer> findIdSliceByUserId(
+            @Param("userId") Integer userId,
+            @Param("status") OrderStatus status,
+            @Param("fromDate") LocalDateTime fromDate,
+            Pageable pageable
+    );
 
-    @EntityGraph(attributePaths = {"orderItems"})
-    Page<Order> findAllByUserIdAndOrderStatus(Integer userId, OrderStatus orderStatus, Pageable pageable);
+    /**
+     * 주문 목록 2단계: 1단계에서 고른 주문의 요약 컬럼 + 주문 항목 수를 DTO 로 바로 조회.
+     * 엔티티(Order/OrderItem/Product)를 만들지 않으므로 영속성 컨텍스트를 거치지 않습니다.
+     * MySQL 은 PK(o.id) 로 묶으면 나머지 orders 컬럼을 함수 종속으로 허용합니다.
+     */
+    @Query("""
+        select new com.gdg.sprint.team1.dto.order.OrderResponse(
+            o.id, o.orderStatus, o.totalProductPrice, o.discountAmount, o.deliveryFee,
+            o.finalPrice, o.deliveryAddress, o.createdAt, count(i.quantity))
+        from Order o
+        left join o.orderItems i
+        where o.id in :ids
+        group by o.id
+        """)
+    List<OrderResponse> findSummariesByIdIn(@Param("ids") Collection<Integer> ids);
 
     @EntityGraph(attributePaths = {
         "user",
@@ -28,18 +61,12 @@ public interface OrderRepository extends JpaRepository<Order, Integer> {
     })
     Optional<Order> findWithDetailsById(Integer orderId);
 
-    @EntityGraph(attributePaths = {"orderItems"})
-    Page<Order> findAllByUserIdAndCreatedAtGreaterThanEqual(
-            Integer userId,
-            LocalDateTime fromDate,
-            Pageable pageable
-    );
-
-    @EntityGraph(attributePaths = {"orderItems"})
-    Page<Order> findAllByUserIdAndOrderStatusAndCreatedAtGreaterThanEqual(
-            Integer userId,
-            OrderStatus orderStatus,
-            LocalDateTime fromDate,
-            Pageable pageable
-    );
+    /** 멱등성 키로 이미 생성된 주문 (CreateOrderResponse 를 만들 항목/쿠폰 포함) */
+    @EntityGraph(attributePaths = {
+        "userCoupon",
+        "userCoupon.coupon",
+        "orderItems",
+        "orderItems.product"
+    })
+    Optional<Order> findByUser_IdAndIdempotencyKey(Integer userId, String idempotencyKey);
 }
@@ -7,6 +7,8 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import com.gdg.sprint.team1.entity.Product;
 
@@ -16,4 +18,7 @@ public interface ProductRepository extends JpaRepository<Product, Long>, JpaSpec
     Page<Product> findAll(Specification<Product> spec, Pageable pageable);
 
     Optional<Product> findById(Long id);
+
+    @Query("select p.stock from Product p where p.id = :productId")
+    Optional<Integer> findStockById(@Param("productId") Long productId);
 }
@@ -1,15 +1,27 @@
 package com.gdg.sprint.team1.repository;
 
 import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
 import java.util.Locale;
 
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Root;
+
 import org.springframework.data.jpa.domain.Specification;
 
+import com.gdg.sprint.team1.config.MySqlFullTextFunctionContributor;
 import com.gdg.sprint.team1.entity.Product;
 import com.gdg.sprint.team1.entity.Product.ProductStatus;
 
 public final class ProductSpecs {
 
+    // MySQL ngram parser 기본 토큰 크기(ngram_token_size). 이보다 짧은 단어는 FULLTEXT 로 찾을 수 없음
+    private static final int NGRAM_TOKEN_SIZE = 2;
+
     private ProductSpecs() {}
 
     public static Specification<Product> status(String status) {
@@ -41,8 +53,44 @@ public final class ProductSpecs {
         return (root, query, cb) -> cb.greaterThan(root.get("stock"), 0);
     }
 
+    /**
+     * 상품명/설명 검색. FULLTEXT(ngram) 인덱스 ft_name_description 을 MATCH ... AGAINST 로 사용하고,
+     * ngram 토큰보다 짧은 단어가 섞인 키워드는 기존 LIKE 검색으로 대체합니다.
+     * ngram 구문 검색은 공백을 무시하는 등 LIKE 보다 넓게 찾으므로, 인덱스로 좁힌 후보를 같은 LIKE 조건으로 다시 걸러
+     * 결과를 LIKE '%키워드%' 와 맞춥니다.
+     */
     public static Specification<Product> search(String keyword) {
         if (keyword == null || keyword.isBlank()) return (root, query, cb) -> cb.conjunction();
+        String phrase = toFullTextPhrase(keyword);
+        Specification<Product> like = likeSearch(keyword);
+        if (phrase == null) {
+            return like;
+        }
+        return (root, query, cb) -> cb.and(
+            cb.greaterThan(relevance(root, cb, phrase), 0.0),
+            like.toPredicate(root, query, cb)
+        );
+    }
+
+    /** FULLTEXT 로 검색되는 키워드인지 여부. false 면 LIKE 검색이라 관련도 점수가 없습니다. */
+    public static boolean supportsRelevance(String keyword) {
+        return keyword != null && !keyword.isBlank() && toFullTextPhrase(keyword) != null;
+    }
+
+    /** 검색 관련도(MATCH 점수) 내림차순, 동점은 id 내림차순. COUNT 쿼리에는 정렬을 걸지 않습니다. */
+    public static Specification<Product> orderByRelevance(String keyword) {
+        if (keyword == null || keyword.isBlank()) return (root, query, cb) -> cb.conjunction();
+        String phrase = toFullTextPhrase(keyword);
+        if (phrase == null) return (root, query, cb) -> cb.conjunction();
+        return (root, query, cb) -> {
+            if (query != null && !isCountQuery(query)) {
+                query.orderBy(cb.desc(relevance(root, cb, phrase)), cb.desc(root.get("id")));
+            }
+            return cb.conjunction();
+        };
+    }
+
+    private static Specification<Product> likeSearch(String keyword) {
         String escaped = keyword.trim()
             .replace("\\", "\\\\")
             .replace("%", "\\%")
@@ -53,4 +101,74 @@ public final class ProductSpecs {
             cb.like(root.get("description"), pattern, '\\')
         );
     }
+
+    private static Expression<Double> relevance(Root<Product> root, CriteriaBuilder cb, String phrase) {
+        return cb.function(
+            MySqlFullTextFunctionContributor.MATCH_AGAINST,
+            Double.class,
+            root.get("name"),
+            root.get("description"),
+            cb.literal(phrase)
+        );
+    }
+
+    /**
+     * BOOLEAN MODE 구문 검색용 "..." 문자열로 변환. 불용어 없는 인덱스(V7)에서 LIKE '%키워드%' 결과를 모두 포함합니다.
+     * 토큰 크기보다 짧은 단어가 있으면 null (FULLTEXT 로 찾을 수 없음).
+     */
+    private static String toFullTextPhrase(String keyword) {
+        String cleaned = keyword.replace("\"", " ").trim();
+        if (cleaned.isEmpty()) return null;
+        for (String word : cleaned.split("\\s+")) {
+            if (word.codePointCount(0, word.length()) < NGRAM_TOKEN_SIZE) {
+                return null;
+            }
+        }
+        return "\"" + cleaned + "\"";
+    }
+
+    private static boolean isCountQuery(CriteriaQuery<?> query) {
+        Class<?> resultType = query.getResultType();
+        return Long.class.equals(resultType) || long.class.equals(resultType);
+    }
+
+    /**
+     * 커서(keyset) 페이지네이션: (정렬 값, id) 가 마지막 행보다 뒤에 있는 행만 조회합니다.
+     * id 를 tie-breaker 로 사용하므로 정렬도 반드시 (정렬 컬럼, id) 순으로 걸어야 합니다.
+     */
+    public static Specification<Product> keysetAfter(
+        String sortProperty,
+        boolean ascending,
+        String lastValue,
+        Long lastId
+    ) {
+        try {
+            return switch (sortProperty) {
+                case "price" -> keyset("price", new BigDecimal(lastValue), lastId, ascending);
+                case "name" -> keyset("name", lastValue, lastId, ascending);
+                default -> keyset("createdAt", Instant.parse(lastValue), lastId, ascending);
+            };
+        } catch (NumberFormatException | DateTimeParseException e) {
+            throw new IllegalArgumentException("유효하지 않은 커서입니다.");
+        }
+    }
+
+    private static <T extends Comparable<? super T>> Specification<Product> keyset(
+        String property,
+        T lastValue,
+        Long lastId,
+        boolean ascending
+    ) {
+        return (root, query, cb) -> {
+            Path<T> path = root.get(property);
+            Path<Long> id = root.get("id");
+            return cb.or(
+                ascending ? cb.greaterThan(path, lastValue) : cb.lessThan(path, lastValue),
+                cb.and(
+                    cb.equal(path, lastValue),
+                    ascending ? cb.greaterThan(id, lastId) : cb.lessThan(id, lastId)
+                )
+            );
+        };
+    }
 }
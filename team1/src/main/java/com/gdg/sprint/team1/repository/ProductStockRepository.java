@@ -0,0 +1,94 @@
+package com.gdg.sprint.team1.repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 주문 상품들의 재고 차감/복구를 조건부 UPDATE 한 종류의 JDBC 배치로 전송합니다.
+ * (rewriteBatchedStatements=true 이면 한 번의 왕복으로 전송)
+ * 교착 상태를 피하려고 호출자는 상품 id 오름차순(SortedMap)으로 넘깁니다.
+ * 건수가 1 이 아닌 항목은 실패로 돌려주며, 호출자는 예외로 트랜잭션을 롤백해 이미 차감된 항목도 되돌립니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ProductStockRepository {
+
+    // MySQL 은 SET 절을 왼쪽부터 평가하므로 product_status 의 stock 은 변경 이후 값
+    private static final String DEDUCT_SQL = """
+        update products
+        set stock = stock - ?,
+            product_status = case when stock = 0 and product_status = 'ACTIVE' then 'SOLD_OUT' else product_status end,
+            version = version + 1
+        where id = ? and stock >= ?
+        """;
+
+    private static final String RESTORE_SQL = """
+        update products
+        set stock = stock + ?,
+            product_status = case when stock > 0 and product_status = 'SOLD_OUT' then 'ACTIVE' else product_status end,
+            version = version + 1
+        where id = ?
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /** @return 재고 부족(또는 없는 상품)으로 차감되지 않은 상품 id 목록 */
+    public List<Long> deductAll(SortedMap<Long, Integer> quantities) {
+        List<Map.Entry<Long, Integer>> entries = new ArrayList<>(quantities.entrySet());
+        int[] counts = jdbcTemplate.batchUpdate(DEDUCT_SQL, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                Map.Entry<Long, Integer> entry = entries.get(i);
+                ps.setInt(1, entry.getValue());
+                ps.setLong(2, entry.getKey());
+                ps.setInt(3, entry.getValue());
+            }
+
+            @Override
+            public int getBatchSize() {
+                return entries.size();
+            }
+        });
+        return notUpdated(entries, counts);
+    }
+
+    /** @return 없는 상품이라 복구되지 않은 상품 id 목록 */
+    public List<Long> restoreAll(SortedMap<Long, Integer> quantities) {
+        List<Map.Entry<Long, Integer>> entries = new ArrayList<>(quantities.entrySet());
+        int[] counts = jdbcTemplate.batchUpdate(RESTORE_SQL, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                Map.Entry<Long, Integer> entry = entries.get(i);
+                ps.setInt(1, entry.getValue());
+                ps.setLong(2, entry.getKey());
+            }
+
+            @Override
+            public int getBatchSize() {
+                return entries.size();
+            }
+        });
+        return notUpdated(entries, counts);
+    }
+
+    // 행 하나를 바꾸는 UPDATE 라 1 만 성공으로 봄. 드라이버가 건수를 모르면(SUCCESS_NO_INFO, -2) 실패로 처리
+    private static List<Long> notUpdated(List<Map.Entry<Long, Integer>> entries, int[] counts) {
+        List<Long> failed = new ArrayList<>();
+        for (int i = 0; i < entries.size(); i++) {
+            if (i >= counts.length || counts[i] != 1) {
+                failed.add(entries.get(i).getKey());
+            }
+        }
+        return failed;
+    }
+}
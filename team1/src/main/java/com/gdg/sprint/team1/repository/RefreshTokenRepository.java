@@ -1,16 +1,43 @@
 package com.gdg.sprint.team1.repository;
 
-import java.util.Optional;
+import java.time.LocalDateTime;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.gdg.sprint.team1.entity.RefreshToken;
 
 public interface RefreshTokenRepository extends JpaRepository<RefreshToken, Integer> {
 
-    Optional<RefreshToken> findByToken(String token);
+    /**
+     * 토큰 회전을 UPDATE 한 문장으로 처리합니다 (조회 → 삭제 → 저장 대신).
+     * 유효한(본인 소유, 만료 전) 토큰이 있으면 새 digest/만료 시각으로 바꾸고 1, 없으면 0 을 반환합니다.
+     * 같은 토큰으로 동시에 요청해도 행 잠금으로 하나만 1 을 받습니다.
+     */
+    @Modifying
+    @Query("""
+        update RefreshToken t
+        set t.tokenHash = :newHash, t.expiresAt = :expiresAt
+        where t.tokenHash = :oldHash
+          and t.user.id = :userId
+          and t.expiresAt > :now
+        """)
+    int rotate(
+            @Param("oldHash") String oldHash,
+            @Param("newHash") String newHash,
+            @Param("userId") Integer userId,
+            @Param("expiresAt") LocalDateTime expiresAt,
+            @Param("now") LocalDateTime now
+    );
 
-    void deleteByToken(String token);
+    /** 만료된 행을 batchSize 개까지 삭제 (idx_expires_at 범위 조회). 호출마다 별도 트랜잭션이라 잠금을 짧게 유지합니다. */
+    @Transactional
+    @Modifying
+    @Query(value = "DELETE FROM refresh_tokens WHERE expires_at < :now LIMIT :batchSize", nativeQuery = true)
+    int deleteExpiredBatch(@Param("now") LocalDateTime now, @Param("batchSize") int batchSize);
 
     void deleteByUserId(Integer userId);
 }
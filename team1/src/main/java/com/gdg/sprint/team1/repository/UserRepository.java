@@ -3,6 +3,9 @@ package com.gdg.sprint.team1.repository;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import com.gdg.sprint.team1.entity.User;
 
@@ -11,4 +14,13 @@ public interface UserRepository extends JpaRepository<User, Integer> {
     Optional<User> findByEmail(String email);
 
     boolean existsByEmail(String email);
+
+    /** 저장된 해시가 expected 그대로일 때만 바꿉니다 (그 사이 변경된 비밀번호를 덮어쓰지 않음). */
+    @Modifying
+    @Query("update User u set u.password = :password where u.id = :id and u.password = :expected")
+    int updatePasswordIfUnchanged(
+            @Param("id") Integer id,
+            @Param("expected") String expected,
+            @Param("password") String password
+    );
 }
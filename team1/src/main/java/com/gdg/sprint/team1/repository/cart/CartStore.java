@@ -0,0 +1,34 @@
+package com.gdg.sprint.team1.repository.cart;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import com.gdg.sprint.team1.domain.cart.CartItem;
+
+/**
+ * 장바구니 저장소. app.cart.store 로 구현을 선택합니다.
+ * - jpa (기본): JpaCartStore, 변경마다 cart_items 에 바로 반영
+ * - memory: InMemoryCartStore, 노드 메모리에 보관하고 주기적으로 cart_items 에 일괄 반영
+ */
+public interface CartStore {
+
+    List<CartItem> findAll(Integer userId);
+
+    Optional<CartItem> find(Integer userId, Long productId);
+
+    /** 이미 담긴 상품이면 수량을 더하고, 없으면 새로 담습니다. */
+    void add(Integer userId, Long productId, int quantity);
+
+    /** 담긴 상품의 수량 변경. 없으면 CartItemNotFoundException */
+    void updateQuantity(Integer userId, Long productId, int quantity);
+
+    void remove(Integer userId, Long productId);
+
+    void removeAll(Integer userId, Collection<Long> productIds);
+
+    void clear(Integer userId);
+
+    /** 주문에 포함된 항목 제거. 주문 트랜잭션과 함께 커밋/롤백되어야 합니다. */
+    void removeOrdered(Integer userId, Collection<Long> productIds);
+}
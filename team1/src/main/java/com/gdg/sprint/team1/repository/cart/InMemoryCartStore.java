@@ -0,0 +1,473 @@
+package com.gdg.sprint.team1.repository.cart;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+import jakarta.annotation.PreDestroy;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.gdg.sprint.team1.domain.cart.CartItem;
+import com.gdg.sprint.team1.exception.CartItemNotFoundException;
+
+/**
+ * 노드 메모리 장바구니 저장소 (app.cart.store=memory).
+ * 사용자별 장바구니를 처음 접근할 때 cart_items 에서 읽어 오고, 이후 변경은 메모리에만 반영합니다.
+ * 변경된 상품(dirty)만 모아 두었다가 flush-interval-ms 마다 JDBC 배치로 일괄 반영하므로
+ * 같은 상품을 여러 번 누르면 마지막 값 한 번만 기록됩니다.
+ * 주문은 메모리 장바구니를 읽고 주문된 행만 주문 트랜잭션 안에서 지우므로 주문 전에 반영할 필요가 없습니다.
+ *
+ * 노드별 메모리이므로 단일 노드이거나 사용자 단위 sticky session 인 배포를 전제로 합니다.
+ */
+@Component
+@ConditionalOnProperty(name = "app.cart.store", havingValue = "memory")
+public class InMemoryCartStore implements CartStore {
+
+    private static final Logger log = LoggerFactory.getLogger(InMemoryCartStore.class);
+
+    private static final int STRIPES = 64;
+
+    private static final String UPSERT_SQL = """
+        insert into cart_items (user_id, product_id, quantity, created_at, updated_at)
+        values (?, ?, ?, ?, ?)
+        on duplicate key update quantity = values(quantity), updated_at = values(updated_at)
+        """;
+    private static final String DELETE_SQL =
+        "delete from cart_items where user_id = ? and product_id = ?";
+    private static final String SELECT_SQL = """
+        select product_id, quantity, created_at, updated_at
+        from cart_items
+        where user_id = ?
+        order by product_id
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate requiresNew;
+    private final long idleEvictNanos;
+
+    private final Map<Integer, UserCart> carts = new ConcurrentHashMap<>();
+    // 변경용 락과 반영용 락을 분리: DB 반영 중에도 같은 사용자의 담기/수정은 막지 않고, 같은 사용자 반영만 직렬화
+    private final ReentrantLock[] locks = newLocks();
+    private final ReentrantLock[] flushLocks = newLocks();
+    // 메모리 장바구니를 버릴 때마다 증가. 락 밖에서 DB 를 읽는 동안 버려진 적이 있으면 읽은 값을 쓰지 않음
+    private final AtomicLong evictions = new AtomicLong();
+
+    public InMemoryCartStore(
+        JdbcTemplate jdbcTemplate,
+        PlatformTransactionManager transactionManager,
+        @Value("${app.cart.idle-evict-seconds:600}") long idleEvictSeconds
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.requiresNew = new TransactionTemplate(transactionManager);
+        this.requiresNew.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.idleEvictNanos = Duration.ofSeconds(idleEvictSeconds).toNanos();
+    }
+
+    @Override
+    public List<CartItem> findAll(Integer userId) {
+        return withCart(userId, cart -> {
+            List<CartItem> items = new ArrayList<>(cart.lines.size());
+            cart.lines.values().forEach(line -> items.add(line.toCartItem(userId)));
+            return items;
+        });
+    }
+
+    @Override
+    public Optional<CartItem> find(Integer userId, Long productId) {
+        return withCart(userId, cart -> Optional.ofNullable(cart.lines.get(productId))
+            .map(line -> line.toCartItem(userId)));
+    }
+
+    @Override
+    public void add(Integer userId, Long productId, int quantity) {
+        if (quantity < 1) {
+            throw new IllegalArgumentException("quantity must be >= 1");
+        }
+        withCart(userId, cart -> {
+            LocalDateTime now = LocalDateTime.now();
+            Line line = cart.lines.get(productId);
+            if (line == null) {
+                cart.lines.put(productId, new Line(productId, quantity, now, now));
+            } else {
+                line.quantity += quantity;
+                line.updatedAt = now;
+            }
+            cart.dirty.add(productId);
+            return null;
+        });
+    }
+
+    @Override
+    public void updateQuantity(Integer userId, Long productId, int quantity) {
+        if (quantity < 1) {
+            throw new IllegalArgumentException("quantity must be >= 1");
+        }
+        withCart(userId, cart -> {
+            Line line = cart.lines.get(productId);
+            if (line == null) {
+                throw new CartItemNotFoundException(productId);
+            }
+            line.quantity = quantity;
+            line.updatedAt = LocalDateTime.now();
+            cart.dirty.add(productId);
+            return null;
+        });
+    }
+
+    @Override
+    public void remove(Integer userId, Long productId) {
+        removeAll(userId, List.of(productId));
+    }
+
+    @Override
+    public void removeAll(Integer userId, Collection<Long> productIds) {
+        if (productIds == null || productIds.isEmpty()) return;
+        withCart(userId, cart -> {
+            for (Long productId : productIds) {
+                if (cart.lines.remove(productId) != null) {
+                    cart.dirty.add(productId);
+                }
+            }
+            return null;
+        });
+    }
+
+    @Override
+    public void clear(Integer userId) {
+        withCart(userId, cart -> {
+            cart.dirty.addAll(cart.lines.keySet());
+            cart.lines.clear();
+            return null;
+        });
+    }
+
+    /**
+     * 대기 중인 변경을 별도 트랜잭션(REQUIRES_NEW)으로 반영합니다. 주기 반영과 종료 시에만 호출되며,
+     * 트랜잭션 밖에서 실행되므로 커넥션은 하나만 사용합니다.
+     */
+    public void flush(Integer userId) {
+        ReentrantLock flushLock = stripe(flushLocks, userId);
+        flushLock.lock();
+        try {
+            PendingWrites pending = drain(userId);
+            if (pending == null || pending.isEmpty()) {
+                return;
+            }
+            try {
+                requiresNew.executeWithoutResult(status -> write(userId, pending));
+            } catch (DataIntegrityViolationException e) {
+                // 없는 상품/사용자를 가리키는 행이 섞인 경우: 한 행씩 다시 반영해 실패한 행만 버림
+                writeEach(userId, pending);
+            } catch (RuntimeException e) {
+                markDirty(userId, pending);
+                throw e;
+            }
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    /**
+     * 주문 트랜잭션 안에서 DB 삭제를 바로 실행해 주문과 함께 커밋/롤백되게 합니다.
+     * 롤백되면 지운 항목을 반영 대기 상태(dirty)까지 포함해 메모리에 되돌립니다 (아직 반영 전인 변경도 잃지 않음).
+     * 진행 중인 주기 반영이 지운 행을 다시 쓰지 않도록 같은 사용자의 반영과 직렬화합니다.
+     */
+    @Override
+    public void removeOrdered(Integer userId, Collection<Long> productIds) {
+        if (productIds == null || productIds.isEmpty()) return;
+        List<Long> ids = List.copyOf(productIds);
+        ReentrantLock flushLock = stripe(flushLocks, userId);
+        flushLock.lock();
+        try {
+            List<Removed> removed = withCart(userId, cart -> {
+                List<Removed> lines = new ArrayList<>(ids.size());
+                for (Long productId : ids) {
+                    Line line = cart.lines.remove(productId);
+                    boolean dirty = cart.dirty.remove(productId);
+                    if (line != null) {
+                        lines.add(new Removed(line, dirty));
+                    }
+                }
+                return lines;
+            });
+            jdbcTemplate.batchUpdate(DELETE_SQL, ids, ids.size(), (ps, productId) -> {
+                ps.setInt(1, userId);
+                ps.setLong(2, productId);
+            });
+            if (TransactionSynchronizationManager.isSynchronizationActive()) {
+                TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                    @Override
+                    public void afterCompletion(int status) {
+                        if (status != STATUS_COMMITTED) {
+                            restore(userId, removed);
+                        }
+                    }
+                });
+            }
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.cart.flush-interval-ms:1000}")
+    public void flushAll() {
+        for (Integer userId : List.copyOf(carts.keySet())) {
+            try {
+                flush(userId);
+            } catch (RuntimeException e) {
+                // 다음 주기에 다시 시도
+                log.warn("장바구니 주기 반영 실패: userId={}", userId, e);
+            }
+            evictIfIdle(userId);
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flushAll();
+    }
+
+    /**
+     * 메모리에 없으면 락 밖에서 DB 를 읽고, 락 안에서는 비어 있을 때만 채웁니다 (느린 조회가 같은 stripe 의 다른 사용자를 막지 않음).
+     * 읽는 동안 장바구니가 버려졌다면(주문 롤백 등) 읽은 값이 오래됐을 수 있으므로 다시 읽습니다.
+     */
+    private <T> T withCart(Integer userId, Function<UserCart, T> action) {
+        ReentrantLock lock = stripe(locks, userId);
+        while (true) {
+            long evictedBefore = evictions.get();
+            UserCart loaded = carts.containsKey(userId) ? null : load(userId);
+            lock.lock();
+            try {
+                UserCart cart = carts.get(userId);
+                if (cart == null) {
+                    if (loaded == null || evictions.get() != evictedBefore) {
+                        continue;
+                    }
+                    carts.put(userId, loaded);
+                    cart = loaded;
+                }
+                cart.lastAccessNanos = System.nanoTime();
+                return action.apply(cart);
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    private UserCart load(Integer userId) {
+        UserCart cart = new UserCart();
+        jdbcTemplate.query(SELECT_SQL, rs -> {
+            Long productId = rs.getLong("product_id");
+            Timestamp createdAt = rs.getTimestamp("created_at");
+            Timestamp updatedAt = rs.getTimestamp("updated_at");
+            cart.lines.put(productId, new Line(
+                productId,
+                rs.getInt("quantity"),
+                createdAt != null ? createdAt.toLocalDateTime() : null,
+                updatedAt != null ? updatedAt.toLocalDateTime() : null
+            ));
+        }, userId);
+        return cart;
+    }
+
+    private PendingWrites drain(Integer userId) {
+        ReentrantLock lock = stripe(locks, userId);
+        lock.lock();
+        try {
+            UserCart cart = carts.get(userId);
+            if (cart == null || cart.dirty.isEmpty()) {
+                return null;
+            }
+            List<Line> upserts = new ArrayList<>();
+            List<Long> deletes = new ArrayList<>();
+            for (Long productId : cart.dirty) {
+                Line line = cart.lines.get(productId);
+                if (line != null) {
+                    upserts.add(line.copy());
+                } else {
+                    deletes.add(productId);
+                }
+            }
+            cart.dirty.clear();
+            return new PendingWrites(upserts, deletes);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void write(Integer userId, PendingWrites pending) {
+        if (!pending.upserts().isEmpty()) {
+            jdbcTemplate.batchUpdate(UPSERT_SQL, pending.upserts(), pending.upserts().size(), (ps, line) -> {
+                ps.setInt(1, userId);
+                ps.setLong(2, line.productId);
+                ps.setInt(3, line.quantity);
+                ps.setTimestamp(4, Timestamp.valueOf(line.createdAt));
+                ps.setTimestamp(5, Timestamp.valueOf(line.updatedAt));
+            });
+        }
+        if (!pending.deletes().isEmpty()) {
+            jdbcTemplate.batchUpdate(DELETE_SQL, pending.deletes(), pending.deletes().size(), (ps, productId) -> {
+                ps.setInt(1, userId);
+                ps.setLong(2, productId);
+            });
+        }
+    }
+
+    /**
+     * 배치 중 참조 오류가 난 경우 한 행씩 별도 트랜잭션으로 반영합니다.
+     * 참조 오류 행은 메모리에서 버리고(그 사이 다시 바뀐 행은 유지), 다른 오류가 나면 남은 행을 dirty 로 되돌립니다.
+     */
+    private void writeEach(Integer userId, PendingWrites pending) {
+        List<PendingWrites> rows = new ArrayList<>();
+        pending.upserts().forEach(line -> rows.add(new PendingWrites(List.of(line), List.of())));
+        pending.deletes().forEach(productId -> rows.add(new PendingWrites(List.of(), List.of(productId))));
+        for (int i = 0; i < rows.size(); i++) {
+            PendingWrites row = rows.get(i);
+            try {
+                requiresNew.executeWithoutResult(status -> write(userId, row));
+            } catch (DataIntegrityViolationException e) {
+                Long productId = row.upserts().isEmpty() ? row.deletes().get(0) : row.upserts().get(0).productId;
+                log.warn("장바구니 항목 반영 실패, 항목 폐기: userId={}, productId={}", userId, productId, e);
+                dropIfUnchanged(userId, productId);
+            } catch (RuntimeException e) {
+                rows.subList(i, rows.size()).forEach(rest -> markDirty(userId, rest));
+                throw e;
+            }
+        }
+    }
+
+    private void dropIfUnchanged(Integer userId, Long productId) {
+        ReentrantLock lock = stripe(locks, userId);
+        lock.lock();
+        try {
+            UserCart cart = carts.get(userId);
+            if (cart != null && !cart.dirty.contains(productId)) {
+                cart.lines.remove(productId);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // 주문 롤백: 그 사이 다시 담은 상품은 새 값을 유지
+    private void restore(Integer userId, List<Removed> removed) {
+        ReentrantLock lock = stripe(locks, userId);
+        lock.lock();
+        try {
+            UserCart cart = carts.get(userId);
+            if (cart == null) return;
+            for (Removed entry : removed) {
+                Long productId = entry.line().productId;
+                if (cart.lines.putIfAbsent(productId, entry.line()) == null && entry.dirty()) {
+                    cart.dirty.add(productId);
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // 반영 실패 시 다시 dirty 로 표시 (그 사이 새로 바뀐 값이 있으면 그대로 최신 값이 반영됨)
+    private void markDirty(Integer userId, PendingWrites pending) {
+        ReentrantLock lock = stripe(locks, userId);
+        lock.lock();
+        try {
+            UserCart cart = carts.get(userId);
+            if (cart == null) return;
+            pending.upserts().forEach(line -> cart.dirty.add(line.productId));
+            cart.dirty.addAll(pending.deletes());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void evictIfIdle(Integer userId) {
+        ReentrantLock lock = stripe(locks, userId);
+        lock.lock();
+        try {
+            UserCart cart = carts.get(userId);
+            if (cart != null && cart.dirty.isEmpty()
+                && System.nanoTime() - cart.lastAccessNanos > idleEvictNanos) {
+                carts.remove(userId);
+                evictions.incrementAndGet();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private static ReentrantLock stripe(ReentrantLock[] stripes, Integer userId) {
+        return stripes[Math.floorMod(userId.hashCode(), STRIPES)];
+    }
+
+    private static ReentrantLock[] newLocks() {
+        ReentrantLock[] stripes = new ReentrantLock[STRIPES];
+        for (int i = 0; i < STRIPES; i++) {
+            stripes[i] = new ReentrantLock();
+        }
+        return stripes;
+    }
+
+    private static final class UserCart {
+        // 담은 순서 유지
+        private final Map<Long, Line> lines = new LinkedHashMap<>();
+        // 마지막 반영 이후 추가/수정/삭제된 상품 id
+        private final Set<Long> dirty = new HashSet<>();
+        private long lastAccessNanos;
+    }
+
+    private static final class Line {
+        private final Long productId;
+        private int quantity;
+        private final LocalDateTime createdAt;
+        private LocalDateTime updatedAt;
+
+        private Line(Long productId, int quantity, LocalDateTime createdAt, LocalDateTime updatedAt) {
+            this.productId = productId;
+            this.quantity = quantity;
+            this.createdAt = createdAt != null ? createdAt : LocalDateTime.now();
+            this.updatedAt = updatedAt != null ? updatedAt : this.createdAt;
+        }
+
+        private Line copy() {
+            return new Line(productId, quantity, createdAt, updatedAt);
+        }
+
+        private CartItem toCartItem(Integer userId) {
+            return CartItem.snapshot(userId, productId, quantity, createdAt, updatedAt);
+        }
+    }
+
+    private record Removed(Line line, boolean dirty) {}
+
+    private record PendingWrites(List<Line> upserts, List<Long> deletes) {
+        private boolean isEmpty() {
+            return upserts.isEmpty() && deletes.isEmpty();
+        }
+    }
+}
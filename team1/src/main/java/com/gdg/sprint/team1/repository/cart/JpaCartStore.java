@@ -0,0 +1,90 @@
+package com.gdg.sprint.team1.repository.cart;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import lombok.RequiredArgsConstructor;
+
+import com.gdg.sprint.team1.domain.cart.CartItem;
+import com.gdg.sprint.team1.exception.CartItemNotFoundException;
+import com.gdg.sprint.team1.repository.CartItemRepository;
+
+/** 기본 장바구니 저장소. 변경마다 cart_items 에 바로 반영합니다. */
+@Component
+@ConditionalOnProperty(name = "app.cart.store", havingValue = "jpa", matchIfMissing = true)
+@RequiredArgsConstructor
+public class JpaCartStore implements CartStore {
+
+    private final CartItemRepository cartItemRepository;
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<CartItem> findAll(Integer userId) {
+        return cartItemRepository.findAllByIdUserId(userId);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<CartItem> find(Integer userId, Long productId) {
+        return cartItemRepository.findByIdUserIdAndIdProductId(userId, productId);
+    }
+
+    @Override
+    @Transactional
+    public void add(Integer userId, Long productId, int quantity) {
+        int updated = cartItemRepository.incrementQuantity(userId, productId, quantity);
+        if (updated == 0) {
+            try {
+                cartItemRepository.save(new CartItem(userId, productId, quantity));
+            } catch (DataIntegrityViolationException ex) {
+                int retried = cartItemRepository.incrementQuantity(userId, productId, quantity);
+                if (retried > 0) {
+                    return;
+                }
+                throw ex;
+            }
+        }
+    }
+
+    @Override
+    @Transactional
+    public void updateQuantity(Integer userId, Long productId, int quantity) {
+        CartItem item = cartItemRepository.findByIdUserIdAndIdProductId(userId, productId)
+            .orElseThrow(() -> new CartItemNotFoundException(productId));
+        item.updateQuantity(quantity);
+    }
+
+    @Override
+    @Transactional
+    public void remove(Integer userId, Long productId) {
+        cartItemRepository.deleteByIdUserIdAndIdProductId(userId, productId);
+    }
+
+    @Override
+    @Transactional
+    public void removeAll(Integer userId, Collection<Long> productIds) {
+        if (productIds == null || productIds.isEmpty()) return;
+        cartItemRepository.deleteById_UserIdAndId_ProductIdIn(userId, List.copyOf(productIds));
+    }
+
+    @Override
+    @Transactional
+    public void clear(Integer userId) {
+        List<CartItem> items = cartItemRepository.findAllByIdUserId(userId);
+        if (!items.isEmpty()) {
+            cartItemRepository.deleteAll(items);
+        }
+    }
+
+    @Override
+    @Transactional
+    public void removeOrdered(Integer userId, Collection<Long> productIds) {
+        removeAll(userId, productIds);
+    }
+}
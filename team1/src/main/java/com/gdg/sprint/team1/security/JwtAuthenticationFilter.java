@@ -14,11 +14,15 @@ import org.springframework.web.filter.OncePerRequestFilter;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
 import com.gdg.sprint.team1.common.ApiResponse;
 import com.gdg.sprint.team1.entity.User.UserRole;
 import com.gdg.sprint.team1.exception.AuthExpiredException;
 import com.gdg.sprint.team1.exception.AuthInvalidException;
 import com.gdg.sprint.team1.exception.AuthRequiredException;
+import com.gdg.sprint.team1.exception.GlobalExceptionHandler;
 import com.gdg.sprint.team1.exception.ForbiddenException;
 
 @Component
@@ -37,10 +41,16 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtTokenProvider jwtTokenProvider;
     private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
 
-    public JwtAuthenticationFilter(JwtTokenProvider jwtTokenProvider, ObjectMapper objectMapper) {
+    public JwtAuthenticationFilter(
+        JwtTokenProvider jwtTokenProvider,
+        ObjectMapper objectMapper,
+        MeterRegistry meterRegistry
+    ) {
         this.jwtTokenProvider = jwtTokenProvider;
         this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
     }
 
     @Override
@@ -63,7 +73,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                 return;
             }
 
-            JwtTokenProvider.TokenPayload payload = jwtTokenProvider.parseToken(token);
+            JwtTokenProvider.TokenPayload payload = jwtTokenProvider.parseTokenCached(token);
             UserContextHolder.set(new UserContextHolder.UserContext(payload.userId(), payload.role()));
 
             if (request.getRequestURI().startsWith("/api/v1/admin/")) {
@@ -97,6 +107,11 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private void sendAuthError(HttpServletResponse response, int status, String code, String message)
             throws IOException {
+        Counter.builder(GlobalExceptionHandler.ERROR_COUNTER)
+            .tag("code", code)
+            .tag("status", String.valueOf(status))
+            .register(meterRegistry)
+            .increment();
         response.setStatus(status);
         response.setContentType("application/json;charset=UTF-8");
         ApiResponse<Void> body = ApiResponse.failure(code, message);
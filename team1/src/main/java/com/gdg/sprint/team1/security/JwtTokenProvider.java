@@ -1,19 +1,28 @@
 package com.gdg.sprint.team1.security;
 
 import java.util.Date;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 
 import javax.crypto.SecretKey;
 
 import org.springframework.stereotype.Component;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+
 import com.gdg.sprint.team1.config.JwtProperties;
 import com.gdg.sprint.team1.entity.User.UserRole;
 import com.gdg.sprint.team1.exception.AuthExpiredException;
 import com.gdg.sprint.team1.exception.AuthInvalidException;
 
+import io.micrometer.core.annotation.Timed;
+
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
 
@@ -25,10 +34,21 @@ public class JwtTokenProvider {
 
     private final JwtProperties jwtProperties;
     private final SecretKey secretKey;
+    // JwtParser 는 불변/스레드 안전하므로 한 번만 생성
+    private final JwtParser jwtParser;
+    // 검증이 끝난 토큰 → payload. 항목은 토큰의 exp 시각에 만료됩니다.
+    private final Cache<String, VerifiedToken> verifiedTokens;
 
     public JwtTokenProvider(JwtProperties jwtProperties) {
         this.jwtProperties = jwtProperties;
         this.secretKey = Keys.hmacShaKeyFor(jwtProperties.getSecret().getBytes(java.nio.charset.StandardCharsets.UTF_8));
+        this.jwtParser = Jwts.parser()
+            .verifyWith(secretKey)
+            .build();
+        this.verifiedTokens = Caffeine.newBuilder()
+            .maximumSize(jwtProperties.getPayloadCacheMaxSize())
+            .expireAfter(new ExpireAtTokenExp())
+            .build();
     }
 
     public String createToken(Integer userId, UserRole role) {
@@ -48,7 +68,9 @@ public class JwtTokenProvider {
         long now = System.currentTimeMillis();
         long refreshMinutes = jwtProperties.getRefreshExpireDays() * 24 * 60;
         Date expiry = new Date(now + refreshMinutes * 60 * 1000);
+        // 같은 초에 발급해도 토큰(과 저장되는 digest)이 겹치지 않도록 jti 를 붙임
         return Jwts.builder()
+            .id(UUID.randomUUID().toString())
             .subject(String.valueOf(userId))
             .claim(CLAIM_USER_ID, userId)
             .claim(CLAIM_ROLE, role.name())
@@ -58,17 +80,36 @@ public class JwtTokenProvider {
             .compact();
     }
 
+    @Timed(value = "auth.jwt.parse", extraTags = {"cached", "false"})
     public TokenPayload parseToken(String token) {
+        return verify(token).payload();
+    }
+
+    /**
+     * 요청마다 같은 토큰이 반복되는 인증 필터용. 서명 검증에 성공한 토큰만 캐시하며,
+     * 만료 시각이 지나면 캐시에서 빠지므로 다시 검증되어 AuthExpiredException 이 발생합니다.
+     */
+    @Timed(value = "auth.jwt.parse", extraTags = {"cached", "true"})
+    public TokenPayload parseTokenCached(String token) {
+        VerifiedToken cached = verifiedTokens.getIfPresent(token);
+        if (cached != null) {
+            return cached.payload();
+        }
+        VerifiedToken verified = verify(token);
+        verifiedTokens.put(token, verified);
+        return verified.payload();
+    }
+
+    private VerifiedToken verify(String token) {
         try {
-            Claims claims = Jwts.parser()
-                .verifyWith(secretKey)
-                .build()
+            Claims claims = jwtParser
                 .parseSignedClaims(token)
                 .getPayload();
             Integer userId = claims.get(CLAIM_USER_ID, Integer.class);
             String roleStr = claims.get(CLAIM_ROLE, String.class);
             UserRole role = roleStr != null ? UserRole.valueOf(roleStr) : UserRole.USER;
-            return new TokenPayload(userId, role);
+            long expiresAtMillis = claims.getExpiration() != null ? claims.getExpiration().getTime() : 0L;
+            return new VerifiedToken(new TokenPayload(userId, role), expiresAtMillis);
         } catch (ExpiredJwtException e) {
             throw new AuthExpiredException();
         } catch (JwtException e) {
@@ -77,4 +118,25 @@ public class JwtTokenProvider {
     }
 
     public record TokenPayload(Integer userId, UserRole role) {}
+
+    private record VerifiedToken(TokenPayload payload, long expiresAtMillis) {}
+
+    private static class ExpireAtTokenExp implements Expiry<String, VerifiedToken> {
+
+        @Override
+        public long expireAfterCreate(String token, VerifiedToken value, long currentTime) {
+            long remainingMillis = value.expiresAtMillis() - System.currentTimeMillis();
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(remainingMillis, 0L));
+        }
+
+        @Override
+        public long expireAfterUpdate(String token, VerifiedToken value, long currentTime, long currentDuration) {
+            return expireAfterCreate(token, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String token, VerifiedToken value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
 }
@@ -0,0 +1,149 @@
+package com.gdg.sprint.team1.security;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import jakarta.annotation.PreDestroy;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import com.gdg.sprint.team1.exception.ServiceBusyException;
+
+/**
+ * 비밀번호 해시/검증(BCrypt)을 요청 스레드 대신 전용 스레드 풀에서 실행합니다.
+ * <p>
+ * 스레드 수만큼만 CPU 를 쓰므로 로그인이 몰려도 Tomcat 스레드가 해시 계산으로 모두 묶이지 않고,
+ * 대기열이 차면 바로 ServiceBusyException(503)으로 거절합니다.
+ * 해시 시간은 auth.password.hash{op}, 대기열 거절은 auth.password.rejected 로 기록합니다.
+ */
+@Component
+public class PasswordHasher {
+
+    private static final Pattern BCRYPT = Pattern.compile("^\\$2[abxy]?\\$(\\d{2})\\$");
+
+    private final PasswordEncoder passwordEncoder;
+    private final int strength;
+    private final long timeoutMillis;
+    private final ThreadPoolExecutor executor;
+    private final Timer encodeTimer;
+    private final Timer verifyTimer;
+    private final Counter rejected;
+
+    public PasswordHasher(
+        PasswordEncoder passwordEncoder,
+        MeterRegistry meterRegistry,
+        @Value("${app.security.bcrypt-strength:10}") int strength,
+        @Value("${app.security.password-hash.threads:0}") int threads,
+        @Value("${app.security.password-hash.queue-capacity:64}") int queueCapacity,
+        @Value("${app.security.password-hash.timeout-ms:5000}") long timeoutMillis
+    ) {
+        this.passwordEncoder = passwordEncoder;
+        this.strength = strength;
+        this.timeoutMillis = timeoutMillis;
+        // 0 이면 코어 절반 (나머지는 일반 요청 처리에 남김)
+        int poolSize = threads > 0 ? threads : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        this.executor = new ThreadPoolExecutor(
+            poolSize, poolSize,
+            60, TimeUnit.SECONDS,
+            new ArrayBlockingQueue<>(queueCapacity),
+            new CustomizableThreadFactory("password-hash-"),
+            new ThreadPoolExecutor.AbortPolicy()
+        );
+        this.executor.allowCoreThreadTimeOut(true);
+
+        this.encodeTimer = Timer.builder("auth.password.hash").tag("op", "encode")
+            .publishPercentileHistogram().register(meterRegistry);
+        this.verifyTimer = Timer.builder("auth.password.hash").tag("op", "verify")
+            .publishPercentileHistogram().register(meterRegistry);
+        this.rejected = Counter.builder("auth.password.rejected").register(meterRegistry);
+        Gauge.builder("auth.password.queued", executor, e -> e.getQueue().size()).register(meterRegistry);
+    }
+
+    public String encode(String rawPassword) {
+        return await(submit(() -> timed(encodeTimer, () -> passwordEncoder.encode(rawPassword))));
+    }
+
+    public boolean matches(String rawPassword, String encodedPassword) {
+        return await(submit(() -> timed(verifyTimer, () -> passwordEncoder.matches(rawPassword, encodedPassword))));
+    }
+
+    /** BCrypt 가 아니거나(평문 초기 데이터) cost 가 설정값과 다르면 true */
+    public boolean needsRehash(String encodedPassword) {
+        if (encodedPassword == null) {
+            return false;
+        }
+        Matcher matcher = BCRYPT.matcher(encodedPassword);
+        return !matcher.find() || Integer.parseInt(matcher.group(1)) != strength;
+    }
+
+    /**
+     * 새 해시를 만들어 onEncoded 에 넘깁니다. 호출 스레드는 기다리지 않으며,
+     * 대기열이 차 있으면 건너뜁니다 (다음 로그인 때 다시 시도).
+     */
+    public void rehashLater(String rawPassword, Consumer<String> onEncoded) {
+        try {
+            executor.execute(() -> onEncoded.accept(timed(encodeTimer, () -> passwordEncoder.encode(rawPassword))));
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    private <T> CompletableFuture<T> submit(Supplier<T> task) {
+        try {
+            return CompletableFuture.supplyAsync(task, executor);
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            throw new ServiceBusyException();
+        }
+    }
+
+    private static <T> T timed(Timer timer, Supplier<T> task) {
+        long start = System.nanoTime();
+        try {
+            return task.get();
+        } finally {
+            timer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private <T> T await(CompletableFuture<T> future) {
+        try {
+            return future.get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            // 아직 대기열에 있으면 실행되지 않도록 취소
+            future.cancel(false);
+            rejected.increment();
+            throw new ServiceBusyException("비밀번호 확인이 지연되고 있습니다. 잠시 후 다시 시도해주세요.", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ServiceBusyException("비밀번호 확인이 중단되었습니다.", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+}
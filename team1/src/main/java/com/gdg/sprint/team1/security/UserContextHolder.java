@@ -2,6 +2,12 @@ package com.gdg.sprint.team1.security;
 
 import com.gdg.sprint.team1.entity.User.UserRole;
 
+/**
+ * 요청 단위 사용자 정보. 가상 스레드 모드에서는 요청마다 새 스레드가 만들어지므로 ThreadLocal 이 요청 범위와 같고,
+ * 플랫폼 스레드 풀에서는 JwtAuthenticationFilter 의 finally 에서 clear 합니다.
+ * 값은 불변 record 하나뿐이라 스레드당 비용이 작고, InheritableThreadLocal 은 쓰지 않습니다
+ * (@Async 전달은 UserContextTaskDecorator 가 명시적으로 처리).
+ */
 public final class UserContextHolder {
 
     private static final ThreadLocal<UserContext> HOLDER = new ThreadLocal<>();
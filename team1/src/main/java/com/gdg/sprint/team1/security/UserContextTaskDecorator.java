@@ -0,0 +1,32 @@
+package com.gdg.sprint.team1.security;
+
+import org.springframework.core.task.TaskDecorator;
+
+/**
+ * 요청 스레드의 UserContext 를 @Async 작업 스레드로 전달합니다.
+ * 작업이 끝나면 실행 전 상태로 되돌리므로 플랫폼 스레드 풀에서 재사용되어도 다른 사용자 정보가 남지 않습니다.
+ */
+public class UserContextTaskDecorator implements TaskDecorator {
+
+    @Override
+    public Runnable decorate(Runnable runnable) {
+        UserContextHolder.UserContext captured = UserContextHolder.get();
+        return () -> {
+            UserContextHolder.UserContext previous = UserContextHolder.get();
+            try {
+                if (captured != null) {
+                    UserContextHolder.set(captured);
+                } else {
+                    UserContextHolder.clear();
+                }
+                runnable.run();
+            } finally {
+                if (previous != null) {
+                    UserContextHolder.set(previous);
+                } else {
+                    UserContextHolder.clear();
+                }
+            }
+        };
+    }
+}
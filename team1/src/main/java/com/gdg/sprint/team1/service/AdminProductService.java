@@ -7,11 +7,13 @@ import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
+import com.gdg.sprint.team1.cache.ProductDetailCache;
 import com.gdg.sprint.team1.dto.admin.CreateProductRequest;
 import com.gdg.sprint.team1.dto.product.PaginationInfo;
 import com.gdg.sprint.team1.dto.product.ProductDetailDto;
@@ -34,6 +36,8 @@ public class AdminProductService {
 
     private final ProductRepository productRepository;
     private final S3Service s3Service;
+    private final ProductDetailCache productDetailCache;
+    private final TransactionTemplate transactionTemplate;
 
     @Transactional(readOnly = true)
     public ProductListResponse getAdminProductList(
@@ -77,7 +81,7 @@ public class AdminProductService {
 
         SearchInfo searchInfo = new SearchInfo(
             search,
-            (int) productPage.getTotalElements(),
+            productPage.getTotalElements(),
             status != null ? Map.of("status", status) : Map.of()
         );
 
@@ -92,59 +96,86 @@ public class AdminProductService {
         return toDetailDto(product);
     }
 
-    @Transactional
+    /**
+     * 이미지는 트랜잭션 밖에서 먼저 업로드하고, DB 반영만 짧은 트랜잭션으로 합니다.
+     * DB 반영에 실패하면 올린 이미지는 삭제 대기열로 보냅니다.
+     */
     public ProductDetailDto createProduct(CreateProductRequest request, MultipartFile image) {
-        String imageUrl = null;
-        if (image != null && !image.isEmpty()) {
-            imageUrl = s3Service.uploadFile(image);
+        String imageUrl = s3Service.uploadFile(image);
+
+        ProductDetailDto created;
+        try {
+            created = transactionTemplate.execute(status -> {
+                Product product = Product.create(
+                    request.name(),
+                    request.description(),
+                    request.price(),
+                    request.stock(),
+                    imageUrl
+                );
+                Product saved = productRepository.save(product);
+                productDetailCache.evict(saved.getId());
+                return toDetailDto(saved);
+            });
+        } catch (RuntimeException e) {
+            s3Service.deleteLater(imageUrl);
+            throw e;
         }
 
-        Product product = Product.create(
-            request.name(),
-            request.description(),
-            request.price(),
-            request.stock(),
-            imageUrl
-        );
-
-        Product saved = productRepository.save(product);
-        log.info("상품 생성 완료: {}", saved.getId());
-
-        return toDetailDto(saved);
+        log.info("상품 생성 완료: {}", created.id());
+        return created;
     }
 
-    @Transactional
+    /**
+     * createProduct 와 같이 업로드는 트랜잭션 밖에서, DB 를 쓰기 전에 합니다.
+     * (업로드 전에 조회하면 open-in-view 로 그 커넥션이 요청 끝까지 묶여 업로드 동안 풀을 차지함)
+     * 없는 상품이면 트랜잭션 안의 조회에서 실패하고 올린 이미지는 삭제 대기열로, 이전 이미지는 커밋 후 삭제 대기열로 보냅니다.
+     */
     public ProductDetailDto updateProduct(Long productId, UpdateProductRequest request, MultipartFile image) {
-        Product product = productRepository.findById(productId)
-            .orElseThrow(() -> new ProductNotFoundException(productId));
-
-        product.update(
-            request.name(),
-            request.description(),
-            request.price(),
-            request.stock()
-        );
-
-        if (image != null && !image.isEmpty()) {
-            String oldImageUrl = product.getImageUrl();
-            String newImageUrl = s3Service.uploadFile(image);
-            product.updateImageUrl(newImageUrl);
-
-            if (oldImageUrl != null) {
-                s3Service.deleteFile(oldImageUrl);
-            }
+        String newImageUrl = s3Service.uploadFile(image);
+
+        UpdateResult updated;
+        try {
+            updated = transactionTemplate.execute(status -> {
+                Product product = productRepository.findById(productId)
+                    .orElseThrow(() -> new ProductNotFoundException(productId));
+
+                product.update(
+                    request.name(),
+                    request.description(),
+                    request.price(),
+                    request.stock()
+                );
+                String replacedImageUrl = null;
+                if (newImageUrl != null) {
+                    replacedImageUrl = product.getImageUrl();
+                    product.updateImageUrl(newImageUrl);
+                }
+
+                // 응답의 version/updatedAt 이 이번 수정 값이 되도록 flush(@Version 증가, @PreUpdate) 후 변환
+                Product saved = productRepository.saveAndFlush(product);
+                productDetailCache.evict(productId);
+                return new UpdateResult(toDetailDto(saved), replacedImageUrl);
+            });
+        } catch (RuntimeException e) {
+            s3Service.deleteLater(newImageUrl);
+            throw e;
         }
 
+        s3Service.deleteLater(updated.replacedImageUrl());
         log.info("상품 수정 완료: {}", productId);
-        return toDetailDto(product);
+        return updated.product();
     }
 
+    private record UpdateResult(ProductDetailDto product, String replacedImageUrl) {}
+
     @Transactional
     public void deleteProduct(Long productId) {
         Product product = productRepository.findById(productId)
             .orElseThrow(() -> new ProductNotFoundException(productId));
 
         product.markAsInactive();
+        productDetailCache.evict(productId);
         log.info("상품 비활성화 완료: {}", productId);
     }
 
@@ -172,7 +203,8 @@ public class AdminProductService {
             p.getProductStatus().name(),
             p.getImageUrl(),
             p.getCreatedAt(),
-            p.getUpdatedAt()
+            p.getUpdatedAt(),
+            p.getVersion()
         );
     }
 }
\ No newline at end of file
@@ -1,37 +1,34 @@
 package com.gdg.sprint.team1.service;
 
-import java.time.LocalDateTime;
-
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import lombok.RequiredArgsConstructor;
 
-import com.gdg.sprint.team1.config.JwtProperties;
 import com.gdg.sprint.team1.dto.auth.LoginRequest;
 import com.gdg.sprint.team1.dto.auth.LoginResponse;
 import com.gdg.sprint.team1.dto.auth.SignupRequest;
-import com.gdg.sprint.team1.entity.RefreshToken;
 import com.gdg.sprint.team1.entity.User;
 import com.gdg.sprint.team1.exception.DuplicateEmailException;
 import com.gdg.sprint.team1.exception.InvalidRefreshTokenException;
 import com.gdg.sprint.team1.exception.LoginFailedException;
-import com.gdg.sprint.team1.repository.RefreshTokenRepository;
 import com.gdg.sprint.team1.security.JwtTokenProvider;
 import com.gdg.sprint.team1.security.JwtTokenProvider.TokenPayload;
+import com.gdg.sprint.team1.security.PasswordHasher;
 
 @Service
 @RequiredArgsConstructor
 public class AuthService {
 
     private final UserService userService;
-    private final RefreshTokenRepository refreshTokenRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final RefreshTokenService refreshTokenService;
+    private final PasswordHasher passwordHasher;
     private final JwtTokenProvider jwtTokenProvider;
-    private final JwtProperties jwtProperties;
 
-    @Transactional
+    /**
+     * 트랜잭션을 두지 않아 해시 계산(PasswordHasher 전용 스레드) 동안 DB 커넥션을 잡지 않습니다.
+     * 동시에 같은 이메일로 가입하면 users.email UNIQUE 제약으로 실패합니다.
+     */
     public User signup(SignupRequest request) {
         if (userService.existsByEmail(request.email())) {
             throw new DuplicateEmailException(request.email());
@@ -39,7 +36,7 @@ public class AuthService {
 
         User user = User.create(
             request.email(),
-            passwordEncoder.encode(request.password()),
+            passwordHasher.encode(request.password()),
             request.name(),
             request.phone(),
             request.address()
@@ -47,23 +44,30 @@ public class AuthService {
         return userService.save(user);
     }
 
-    @Transactional
+    /**
+     * 비밀번호 검증은 PasswordHasher 전용 스레드에서 하고, 트랜잭션은 조회/토큰 저장에만 짧게 씁니다.
+     * 저장된 해시의 cost 가 설정과 다르면(또는 평문 초기 데이터면) 응답을 기다리게 하지 않고 다시 해시해 저장합니다.
+     */
     public LoginResponse login(LoginRequest request) {
         User user = userService.findByEmail(request.email())
             .orElseThrow(LoginFailedException::new);
 
         String stored = user.getPassword();
         boolean matches = (stored != null && stored.startsWith("$2"))
-            ? passwordEncoder.matches(request.password(), stored)
+            ? passwordHasher.matches(request.password(), stored)
             : (request.password() != null && request.password().equals(stored));
         if (!matches) {
             throw new LoginFailedException();
         }
+        if (passwordHasher.needsRehash(stored)) {
+            Integer userId = user.getId();
+            passwordHasher.rehashLater(request.password(),
+                rehashed -> userService.replacePassword(userId, stored, rehashed));
+        }
 
         String accessToken = jwtTokenProvider.createToken(user.getId(), user.getRole());
         String refreshTokenValue = jwtTokenProvider.createRefreshToken(user.getId(), user.getRole());
-        LocalDateTime expiresAt = LocalDateTime.now().plusDays(jwtProperties.getRefreshExpireDays());
-        refreshTokenRepository.save(new RefreshToken(user, refreshTokenValue, expiresAt));
+        refreshTokenService.issue(user, refreshTokenValue);
         return LoginResponse.of(accessToken, refreshTokenValue);
     }
 
@@ -76,16 +80,18 @@ public class AuthService {
             throw new InvalidRefreshTokenException();
         }
 
-        refreshTokenRepository.findByToken(refreshTokenValue)
-            .orElseThrow(InvalidRefreshTokenException::new);
-        refreshTokenRepository.deleteByToken(refreshTokenValue);
+        // 이미 회전된 토큰의 재시도는 DB 를 거치지 않고 거절
+        if (refreshTokenService.isRevoked(refreshTokenValue)) {
+            throw new InvalidRefreshTokenException();
+        }
 
         User user = userService.findById(payload.userId());
 
         String newAccessToken = jwtTokenProvider.createToken(user.getId(), user.getRole());
         String newRefreshTokenValue = jwtTokenProvider.createRefreshToken(user.getId(), user.getRole());
-        LocalDateTime expiresAt = LocalDateTime.now().plusDays(jwtProperties.getRefreshExpireDays());
-        refreshTokenRepository.save(new RefreshToken(user, newRefreshTokenValue, expiresAt));
+        if (!refreshTokenService.rotate(user.getId(), refreshTokenValue, newRefreshTokenValue)) {
+            throw new InvalidRefreshTokenException();
+        }
         return LoginResponse.of(newAccessToken, newRefreshTokenValue);
     }
 }
@@ -1,182 +1,234 @@
 package com.gdg.sprint.team1.service;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
+import java.util.function.UnaryOperator;
 
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import lombok.RequiredArgsConstructor;
 
+import io.micrometer.core.annotation.Timed;
+
+import com.gdg.sprint.team1.cache.CartViewCache;
+import com.gdg.sprint.team1.common.Versioned;
 import com.gdg.sprint.team1.domain.cart.CartItem;
-import com.gdg.sprint.team1.dto.cart.CartItemResponse;
+import com.gdg.sprint.team1.domain.cart.CartView;
 import com.gdg.sprint.team1.dto.cart.CartResponse;
-import com.gdg.sprint.team1.dto.cart.CartSummary;
 import com.gdg.sprint.team1.entity.Product;
 import com.gdg.sprint.team1.exception.CartItemNotFoundException;
 import com.gdg.sprint.team1.exception.EmptyCartException;
 import com.gdg.sprint.team1.exception.InsufficientStockException;
 import com.gdg.sprint.team1.exception.ProductNotFoundException;
-import com.gdg.sprint.team1.repository.CartItemRepository;
+import com.gdg.sprint.team1.dto.product.ProductDetailDto;
 import com.gdg.sprint.team1.repository.ProductRepository;
+import com.gdg.sprint.team1.repository.cart.CartStore;
 
 @Service
 @RequiredArgsConstructor
 public class CartService {
 
-    private static final BigDecimal FREE_DELIVERY_THRESHOLD = new BigDecimal("30000");
-    private static final BigDecimal DEFAULT_DELIVERY_FEE = new BigDecimal("3000");
-
-    private final CartItemRepository cartItemRepository;
+    private final CartStore cartStore;
     private final ProductRepository productRepository;
+    private final ProductService productService;
+    private final CartViewCache cartViewCache;
 
-    @Transactional(readOnly = true)
-    public CartResponse getCart(Integer userId) {
-        List<CartItem> cartItems = cartItemRepository.findAllByIdUserId(userId);
+    /**
+     * 계산된 장바구니(CartView)가 있으면 그대로 반환합니다.
+     * 없으면 저장소에서 전체를 계산하고, 가격/재고가 바뀐 상품이 있으면 그 항목만 다시 계산합니다.
+     * version 은 CartView 를 만들 때 함께 계산해 둔 값입니다.
+     */
+    @Timed(value = "cart.get", histogram = true)
+    public Versioned<CartResponse> getCart(Integer userId) {
+        CartView view = cartViewCache.get(userId);
+        if (view == null || view.hasStaleLines()) {
+            view = loadView(userId, view);
+        }
+        return new Versioned<>(view.response(), view.version());
+    }
+
+    /** 저장소/상품 조회는 lock 밖에서 하고, 그 사이 장바구니 변경이 없었을 때만 결과를 보관합니다. */
+    private CartView loadView(Integer userId, CartView view) {
+        long stamp = cartViewCache.changeStamp(userId);
+        long loadedAt = cartViewCache.currentSequence();
+        CartView loaded = view == null ? buildView(userId) : refreshLines(view, view.staleProductIds());
+        cartViewCache.putIfUnchanged(userId, view, loaded, stamp, loadedAt);
+        return loaded;
+    }
+
+    private CartView buildView(Integer userId) {
+        List<CartItem> cartItems = cartStore.findAll(userId);
         if (cartItems.isEmpty()) {
-            CartSummary summary = new CartSummary(
-                0,
-                0,
-                BigDecimal.ZERO,
-                BigDecimal.ZERO,
-                BigDecimal.ZERO
-            );
-            return new CartResponse(userId, List.of(), summary);
+            return CartView.of(userId, List.of());
         }
 
         List<Long> productIds = cartItems.stream()
             .map(item -> item.getId().getProductId())
             .distinct()
-            .collect(Collectors.toList());
+            .toList();
 
         Map<Long, Product> productMap = new HashMap<>();
         productRepository.findAllById(productIds)
             .forEach(product -> productMap.put(product.getId(), product));
 
-        List<CartItemResponse> items = new ArrayList<>();
-        int totalQuantity = 0;
-        BigDecimal totalProductPrice = BigDecimal.ZERO;
-
+        List<CartView.Line> lines = new ArrayList<>(cartItems.size());
         for (CartItem item : cartItems) {
-            Long productId = item.getId().getProductId();
-            Product product = productMap.get(productId);
-            BigDecimal productPrice = product != null && product.getPrice() != null
-                ? product.getPrice()
-                : BigDecimal.ZERO;
-            Integer quantity = item.getQuantity();
-            BigDecimal subtotal = productPrice.multiply(BigDecimal.valueOf(quantity));
-            boolean isAvailable = product != null
-                && "ACTIVE".equals(product.getProductStatus().name())
-                && product.getStock() != null
-                && product.getStock() >= quantity;
-
-            items.add(new CartItemResponse(
-                productId,
+            Product product = productMap.get(item.getId().getProductId());
+            lines.add(CartView.Line.of(
+                item.getId().getProductId(),
                 product != null ? product.getName() : null,
-                productPrice,
+                product != null ? product.getPrice() : null,
                 product != null ? product.getProductStatus().name() : null,
-                quantity,
-                subtotal,
-                isAvailable,
+                product != null ? product.getStock() : null,
+                item.getQuantity(),
                 item.getCreatedAt(),
                 item.getUpdatedAt()
             ));
+        }
+        return CartView.of(userId, lines);
+    }
 
-            totalQuantity += quantity;
-            totalProductPrice = totalProductPrice.add(subtotal);
+    private CartView refreshLines(CartView view, Collection<Long> productIds) {
+        CartView refreshed = view;
+        for (Long productId : List.copyOf(productIds)) {
+            CartView.Line line = view.line(productId);
+            if (line != null) {
+                refreshed = refreshed.withLine(toLine(
+                    productId,
+                    line.quantity(),
+                    line.createdAt(),
+                    line.updatedAt()
+                ));
+            }
         }
+        return refreshed;
+    }
 
-        BigDecimal deliveryFee = calculateDeliveryFee(totalProductPrice);
-        CartSummary summary = new CartSummary(
-            items.size(),
-            totalQuantity,
-            totalProductPrice,
-            deliveryFee,
-            totalProductPrice.add(deliveryFee)
+    /** 저장소에 반영된 항목으로 한 줄만 다시 계산합니다. */
+    private CartView withStoredLine(Integer userId, CartView view, Long productId) {
+        return cartStore.find(userId, productId)
+            .map(item -> view.withLine(toLine(
+                productId,
+                item.getQuantity(),
+                item.getCreatedAt(),
+                item.getUpdatedAt()
+            )))
+            .orElseGet(() -> view.withoutLine(productId));
+    }
+
+    private CartView.Line toLine(Long productId, int quantity, LocalDateTime createdAt, LocalDateTime updatedAt) {
+        ProductDetailDto product;
+        try {
+            product = productService.getProductById(productId);
+        } catch (ProductNotFoundException e) {
+            product = null;
+        }
+        return CartView.Line.of(
+            productId,
+            product != null ? product.name() : null,
+            product != null ? product.price() : null,
+            product != null ? product.productStatus() : null,
+            product != null ? product.stock() : null,
+            quantity,
+            createdAt,
+            updatedAt
         );
+    }
 
-        return new CartResponse(userId, items, summary);
+    /**
+     * 저장소 변경 후 CartView 를 갱신합니다. 저장소 반영과 갱신할 항목 계산은 lock 밖에서 하고,
+     * 그 사이 같은 사용자의 다른 변경이 시작됐으면 갱신 대신 CartView 를 버립니다 (다음 조회 때 다시 계산).
+     * CartView 가 없으면 다음 조회 때 계산하므로 갱신을 건너뜁니다.
+     */
+    private void applyChange(Integer userId, Runnable change, UnaryOperator<CartView> update) {
+        long stamp = cartViewCache.beginChange(userId);
+        change.run();
+        CartView view = cartViewCache.get(userId);
+        if (view != null) {
+            long loadedAt = cartViewCache.currentSequence();
+            if (!cartViewCache.putIfUnchanged(userId, view, update.apply(view), stamp, loadedAt)) {
+                cartViewCache.evict(userId);
+            }
+        }
+        cartViewCache.publishChange(userId);
     }
 
-    @Transactional
+    /**
+     * 담기/수정/삭제는 저장소(CartStore)에 위임합니다. 재고 확인은 상품 상세 캐시를 사용하고,
+     * 실제 재고는 주문 시 다시 검증됩니다.
+     */
+    @Timed(value = "cart.add", histogram = true)
     public void addItem(Integer userId, Long productId, Integer quantity) {
         if (quantity == null || quantity < 1) {
             throw new IllegalArgumentException("quantity must be >= 1");
         }
 
-        Product product = productRepository.findById(productId)
-            .orElseThrow(() -> new ProductNotFoundException(productId));
+        validateStock(productId, quantity);
+        applyChange(
+            userId,
+            () -> cartStore.add(userId, productId, quantity),
+            view -> withStoredLine(userId, view, productId)
+        );
+    }
 
-        Integer stock = product.getStock();
+    public void updateQuantity(Integer userId, Long productId, Integer quantity) {
+        if (cartStore.find(userId, productId).isEmpty()) {
+            throw new CartItemNotFoundException(productId);
+        }
+        if (quantity == null || quantity <= 0) {
+            applyChange(userId, () -> cartStore.remove(userId, productId), view -> view.withoutLine(productId));
+        } else {
+            validateStock(productId, quantity);
+            applyChange(
+                userId,
+                () -> cartStore.updateQuantity(userId, productId, quantity),
+                view -> withStoredLine(userId, view, productId)
+            );
+        }
+    }
+
+    private void validateStock(Long productId, int quantity) {
+        ProductDetailDto product = productService.getProductById(productId);
+        Integer stock = product.stock();
         if (stock != null && quantity > stock) {
             throw new InsufficientStockException(
-                product.getName(),
+                product.name(),
                 quantity,
                 stock
             );
         }
-
-        int updated = cartItemRepository.incrementQuantity(userId, productId, quantity);
-        if (updated == 0) {
-            try {
-                cartItemRepository.save(new CartItem(userId, productId, quantity));
-            } catch (org.springframework.dao.DataIntegrityViolationException ex) {
-                int retried = cartItemRepository.incrementQuantity(userId, productId, quantity);
-                if (retried > 0) {
-                    return;
-                }
-                throw ex;
-            }
-        }
-    }
-
-    @Transactional
-    public void updateQuantity(Integer userId, Long productId, Integer quantity) {
-        CartItem item = cartItemRepository.findByIdUserIdAndIdProductId(userId, productId)
-            .orElseThrow(() -> new CartItemNotFoundException(productId));
-        if (quantity == null || quantity <= 0) {
-            cartItemRepository.deleteByIdUserIdAndIdProductId(userId, productId);
-        } else {
-            Product product = productRepository.findById(productId)
-                .orElseThrow(() -> new ProductNotFoundException(productId));
-            Integer stock = product.getStock();
-            if (stock != null && quantity > stock) {
-                throw new InsufficientStockException(
-                    product.getName(),
-                    quantity,
-                    stock
-                );
-            }
-            item.updateQuantity(quantity);
-        }
     }
 
-    @Transactional
     public void deleteSelected(Integer userId, List<Long> productIds) {
         if (productIds == null || productIds.isEmpty()) return;
-        cartItemRepository.deleteById_UserIdAndId_ProductIdIn(userId, productIds);
+        applyChange(userId, () -> cartStore.removeAll(userId, productIds), view -> {
+            CartView updated = view;
+            for (Long productId : productIds) {
+                updated = updated.withoutLine(productId);
+            }
+            return updated;
+        });
     }
 
-    @Transactional
     public void deleteItem(Integer userId, Long productId) {
-        cartItemRepository.deleteByIdUserIdAndIdProductId(userId, productId);
+        applyChange(userId, () -> cartStore.remove(userId, productId), view -> view.withoutLine(productId));
     }
 
-    @Transactional
     public void deleteAll(Integer userId) {
-        List<CartItem> items = cartItemRepository.findAllByIdUserId(userId);
-        if (!items.isEmpty()) {
-            cartItemRepository.deleteAll(items);
-        }
+        applyChange(userId, () -> cartStore.clear(userId), view -> CartView.of(userId, List.of()));
     }
 
     @Transactional(readOnly = true)
     public List<CartItem> getCartItemsForOrder(Integer userId) {
-        List<CartItem> items = cartItemRepository.findAllByIdUserId(userId);
+        List<CartItem> items = cartStore.findAll(userId);
         if (items.isEmpty()) {
             throw new EmptyCartException();
         }
@@ -188,15 +240,23 @@ public class CartService {
         if (productIds == null || productIds.isEmpty()) {
             return;
         }
-        cartItemRepository.deleteById_UserIdAndId_ProductIdIn(userId, productIds);
+        cartStore.removeOrdered(userId, productIds);
+        // 주문 트랜잭션 결과(커밋/롤백)와 맞추기 위해 계산된 장바구니는 버리고 다음 조회 때 다시 계산
+        cartViewCache.evict(userId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    cartViewCache.evict(userId);
+                    cartViewCache.publishChange(userId);
+                }
+            });
+        } else {
+            cartViewCache.publishChange(userId);
+        }
     }
 
     public BigDecimal calculateDeliveryFee(BigDecimal totalProductPrice) {
-        if (totalProductPrice == null || totalProductPrice.compareTo(BigDecimal.ZERO) == 0) {
-            return BigDecimal.ZERO;
-        }
-        return totalProductPrice.compareTo(FREE_DELIVERY_THRESHOLD) >= 0
-            ? BigDecimal.ZERO
-            : DEFAULT_DELIVERY_FEE;
+        return CartView.deliveryFee(totalProductPrice);
     }
 }
@@ -0,0 +1,132 @@
+package com.gdg.sprint.team1.service;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Supplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+import com.gdg.sprint.team1.dto.order.CreateOrderResponse;
+import com.gdg.sprint.team1.exception.IdempotencyKeyReusedException;
+
+/**
+ * Idempotency-Key 헤더가 있는 주문 생성 요청의 중복 제거.
+ * <p>
+ * 노드 로컬 저장소(크기/TTL 제한)에 (사용자, 키) → 요청 본문 + 결과를 두어,
+ * 재시도는 DB 를 거치지 않고 처음 결과를 그대로 돌려줍니다. 처리 중인 요청과 겹치면 그 결과를 기다립니다.
+ * 로컬에 없는 재시도(다른 노드, 만료/제거 후)는 orders (user_id, idempotency_key) UNIQUE 제약으로 막고,
+ * 충돌하면 이미 생성된 주문을 조회해 돌려줍니다.
+ * <p>
+ * 트랜잭션 밖에서 OrderService 를 호출하므로, 결과는 커밋이 끝난 뒤에만 저장소에 남습니다.
+ * 실패한 요청은 저장소에서 지워 같은 키로 다시 시도할 수 있습니다.
+ */
+@Service
+public class OrderIdempotencyService {
+
+    private static final Logger log = LoggerFactory.getLogger(OrderIdempotencyService.class);
+    private static final String METRIC = "order.idempotency";
+
+    /** @param replayed 이전 요청의 결과를 다시 돌려준 경우 true */
+    public record Outcome(CreateOrderResponse response, boolean replayed) {}
+
+    private record Entry(Object request, CompletableFuture<CreateOrderResponse> result) {}
+
+    private final Cache<String, Entry> entries;
+    private final OrderService orderService;
+    private final MeterRegistry meterRegistry;
+
+    public OrderIdempotencyService(
+        OrderService orderService,
+        MeterRegistry meterRegistry,
+        @Value("${app.order.idempotency.max-size:10000}") long maxSize,
+        @Value("${app.order.idempotency.ttl-seconds:3600}") long ttlSeconds
+    ) {
+        this.entries = Caffeine.newBuilder()
+            .maximumSize(maxSize)
+            .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+            .recordStats()
+            .build();
+        this.orderService = orderService;
+        this.meterRegistry = meterRegistry;
+        CaffeineCacheMetrics.monitor(meterRegistry, entries, METRIC);
+    }
+
+    /**
+     * @param idempotencyKey null 이면 중복 제거 없이 바로 생성합니다.
+     * @param request        같은 키의 재시도인지 확인할 요청 본문 (record equals 로 비교)
+     * @param create         주문 생성 (트랜잭션 경계)
+     */
+    public Outcome execute(
+        Integer userId,
+        String idempotencyKey,
+        Object request,
+        Supplier<CreateOrderResponse> create
+    ) {
+        if (idempotencyKey == null) {
+            return new Outcome(create.get(), false);
+        }
+
+        String key = userId + ":" + idempotencyKey;
+        Entry mine = new Entry(request, new CompletableFuture<>());
+        Entry existing = entries.asMap().putIfAbsent(key, mine);
+        if (existing != null) {
+            if (!existing.request().equals(request)) {
+                throw new IdempotencyKeyReusedException();
+            }
+            count(existing.result().isDone() ? "replayed" : "joined");
+            return new Outcome(await(existing.result()), true);
+        }
+
+        try {
+            Outcome outcome = createOrReplayFromDb(userId, idempotencyKey, create);
+            mine.result().complete(outcome.response());
+            return outcome;
+        } catch (RuntimeException e) {
+            entries.asMap().remove(key, mine);
+            mine.result().completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    private Outcome createOrReplayFromDb(Integer userId, String idempotencyKey, Supplier<CreateOrderResponse> create) {
+        try {
+            CreateOrderResponse response = create.get();
+            count("created");
+            return new Outcome(response, false);
+        } catch (DataIntegrityViolationException e) {
+            // 다른 노드에서 같은 키로 이미 생성됨 (UNIQUE 제약). 이 요청의 트랜잭션은 롤백됨
+            CreateOrderResponse existing = orderService.findCreatedOrder(userId, idempotencyKey)
+                .orElseThrow(() -> e);
+            log.info("멱등성 키 중복 주문 요청: userId={}, orderId={}", userId, existing.order().id());
+            count("replayed_db");
+            return new Outcome(existing, true);
+        }
+    }
+
+    private static CreateOrderResponse await(CompletableFuture<CreateOrderResponse> result) {
+        try {
+            return result.join();
+        } catch (CompletionException e) {
+            // 처리 중이던 같은 요청이 실패하면 같은 오류를 돌려줌
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private void count(String result) {
+        meterRegistry.counter(METRIC + ".requests", "result", result).increment();
+    }
+}
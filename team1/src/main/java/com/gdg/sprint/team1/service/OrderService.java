@@ -5,27 +5,39 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.SortedMap;
+import java.util.TreeMap;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import lombok.RequiredArgsConstructor;
 
+import io.micrometer.core.annotation.Timed;
+
+import com.gdg.sprint.team1.cache.ProductDetailCache;
 import com.gdg.sprint.team1.domain.cart.CartItem;
+import com.gdg.sprint.team1.domain.pricing.Money;
+import com.gdg.sprint.team1.domain.pricing.PriceQuote;
 import com.gdg.sprint.team1.dto.order.CancelOrderResponse;
+import com.gdg.sprint.team1.dto.order.CartOrderPreviewRequest;
 import com.gdg.sprint.team1.dto.order.CouponContext;
 import com.gdg.sprint.team1.dto.order.CreateOrderFromCartRequest;
 import com.gdg.sprint.team1.dto.order.CreateOrderRequest;
 import com.gdg.sprint.team1.dto.order.CreateOrderResponse;
 import com.gdg.sprint.team1.dto.order.OrderDetailResponse;
+import com.gdg.sprint.team1.dto.order.OrderPreviewRequest;
+import com.gdg.sprint.team1.dto.order.OrderPreviewResponse;
 import com.gdg.sprint.team1.dto.order.OrderResponse;
-import com.gdg.sprint.team1.dto.pricing.PriceCalculationResult;
+import com.gdg.sprint.team1.dto.pricing.CouponInfo;
 import com.gdg.sprint.team1.dto.pricing.PriceItem;
+import com.gdg.sprint.team1.dto.product.ProductDetailDto;
 import com.gdg.sprint.team1.entity.Order;
 import com.gdg.sprint.team1.entity.Order.OrderStatus;
 import com.gdg.sprint.team1.entity.OrderItem;
@@ -33,13 +45,16 @@ import com.gdg.sprint.team1.entity.Product;
 import com.gdg.sprint.team1.entity.User;
 import com.gdg.sprint.team1.entity.UserCoupon;
 import com.gdg.sprint.team1.exception.CannotCancelOrderException;
+import com.gdg.sprint.team1.exception.EmptyCartException;
 import com.gdg.sprint.team1.exception.EmptyOrderException;
 import com.gdg.sprint.team1.exception.InsufficientStockException;
+import com.gdg.sprint.team1.exception.MinimumOrderNotMetException;
 import com.gdg.sprint.team1.exception.OrderNotFoundException;
 import com.gdg.sprint.team1.exception.ProductNotFoundException;
 import com.gdg.sprint.team1.exception.UnauthorizedOrderAccessException;
 import com.gdg.sprint.team1.repository.OrderRepository;
 import com.gdg.sprint.team1.repository.ProductRepository;
+import com.gdg.sprint.team1.repository.ProductStockRepository;
 
 @Service
 @RequiredArgsConstructor
@@ -49,13 +64,17 @@ public class OrderService {
 
     private final OrderRepository orderRepository;
     private final ProductRepository productRepository;
+    private final ProductStockRepository productStockRepository;
     private final PriceCalculationService priceCalculationService;
     private final UserService userService;
     private final CartService cartService;
     private final UserCouponService userCouponService;
+    private final ProductDetailCache productDetailCache;
+    private final ProductService productService;
 
+    @Timed(value = "order.create", extraTags = {"source", "direct"}, histogram = true)
     @Transactional
-    public CreateOrderResponse createOrder(Integer userId, CreateOrderRequest request) {
+    public CreateOrderResponse createOrder(Integer userId, CreateOrderRequest request, String idempotencyKey) {
         log.debug("주문 생성 시작: userId={}", userId);
 
         User user = userService.findById(userId);
@@ -64,15 +83,21 @@ public class OrderService {
         List<OrderItemInput> itemInputs = toOrderItemInputs(request.items());
         DeliveryInfo delivery = toDeliveryInfo(request);
 
-        Order order = createOrderInternal(userId, user, itemInputs, delivery, request.userCouponId());
+        Order order = createOrderInternal(
+            userId, user, itemInputs, delivery, request.userCouponId(), idempotencyKey);
 
         log.info("주문 생성 완료: orderId={}, userId={}, finalPrice={}",
             order.getId(), userId, order.getFinalPrice());
         return CreateOrderResponse.from(order);
     }
 
+    @Timed(value = "order.create", extraTags = {"source", "cart"}, histogram = true)
     @Transactional
-    public CreateOrderResponse createOrderFromCart(Integer userId, CreateOrderFromCartRequest request) {
+    public CreateOrderResponse createOrderFromCart(
+        Integer userId,
+        CreateOrderFromCartRequest request,
+        String idempotencyKey
+    ) {
         log.debug("장바구니 기반 주문 생성 시작: userId={}", userId);
 
         User user = userService.findById(userId);
@@ -83,7 +108,8 @@ public class OrderService {
             .toList();
         DeliveryInfo delivery = toDeliveryInfo(request);
 
-        Order order = createOrderInternal(userId, user, itemInputs, delivery, request.userCouponId());
+        Order order = createOrderInternal(
+            userId, user, itemInputs, delivery, request.userCouponId(), idempotencyKey);
 
         List<Long> productIds = cartItems.stream()
             .map(c -> c.getId().getProductId())
@@ -95,22 +121,76 @@ public class OrderService {
         return CreateOrderResponse.from(order);
     }
 
+    /**
+     * 주문 금액 미리보기. 주문 생성과 같은 계산(quote)을 하지만 재고 차감/쿠폰 사용/주문 저장은 하지 않습니다.
+     * 상품과 쿠폰은 캐시에서 읽으므로 캐시 hit 이면 DB 를 읽지 않습니다.
+     * 재고 부족/쿠폰 최소 주문 금액 미달은 예외 대신 응답(available, coupon.verdict, orderable)으로 알려 줍니다.
+     */
+    @Timed(value = "order.preview", extraTags = {"source", "direct"}, histogram = true)
+    @Transactional(readOnly = true)
+    public OrderPreviewResponse previewOrder(Integer userId, OrderPreviewRequest request) {
+        validateOrderItems(request.items());
+        return preview(userId, toOrderItemInputs(request.items()), request.userCouponId());
+    }
+
+    /** 장바구니 기반 미리보기. 장바구니는 계산해 둔 CartView 에서 읽고, 저장소 flush 는 하지 않습니다. */
+    @Timed(value = "order.preview", extraTags = {"source", "cart"}, histogram = true)
+    @Transactional(readOnly = true)
+    public OrderPreviewResponse previewOrderFromCart(Integer userId, CartOrderPreviewRequest request) {
+        List<OrderItemInput> itemInputs = cartService.getCart(userId).body().items().stream()
+            .map(i -> new OrderItemInput(i.productId(), i.quantity()))
+            .toList();
+        if (itemInputs.isEmpty()) {
+            throw new EmptyCartException();
+        }
+        return preview(userId, itemInputs, request != null ? request.userCouponId() : null);
+    }
+
+    private OrderPreviewResponse preview(Integer userId, List<OrderItemInput> itemInputs, Integer userCouponId) {
+        List<PriceItem> priceItems = new ArrayList<>(itemInputs.size());
+        List<OrderPreviewResponse.Item> items = new ArrayList<>(itemInputs.size());
+        for (OrderItemInput input : itemInputs) {
+            ProductDetailDto product = productService.getProductById(input.productId());
+            PriceItem priceItem = new PriceItem(product.id(), product.price(), input.quantity());
+            priceItems.add(priceItem);
+            items.add(new OrderPreviewResponse.Item(
+                product.id(),
+                product.name(),
+                product.price(),
+                input.quantity(),
+                Money.of(product.price()).times(input.quantity()).toBigDecimal(),
+                product.stock() != null && product.stock() >= input.quantity()
+            ));
+        }
+
+        CouponInfo couponInfo = userCouponService.resolveForPreview(userId, userCouponId);
+        PriceQuote quote = priceCalculationService.quote(priceItems, couponInfo);
+        return OrderPreviewResponse.of(items, quote, userCouponId);
+    }
+
     private Order createOrderInternal(
         Integer userId,
         User user,
         List<OrderItemInput> itemInputs,
         DeliveryInfo delivery,
-        Integer userCouponId
+        Integer userCouponId,
+        String idempotencyKey
     ) {
         List<Long> productIds = itemInputs.stream().map(OrderItemInput::productId).toList();
         Map<Long, Product> productMap = loadProductMap(productIds);
         List<PriceItem> priceItems = buildPriceItemsAndValidateStock(itemInputs, productMap);
-        CouponContext couponContext = userCouponService.resolveForOrder(userId, userCouponId, priceItems);
-
-        PriceCalculationResult priceResult = priceCalculationService.calculateTotal(
-            priceItems, couponContext.couponInfo());
+        CouponContext couponContext = userCouponService.resolveForOrder(userId, userCouponId);
+
+        // 합계/쿠폰 판정/할인/배송비를 한 번에 계산
+        PriceQuote quote = priceCalculationService.quote(priceItems, couponContext.couponInfo());
+        if (quote.couponVerdict().isRejected()) {
+            throw new MinimumOrderNotMetException(
+                quote.totalProductPrice().toBigDecimal(),
+                couponContext.couponInfo().minOrderPrice()
+            );
+        }
 
-        Order order = createAndSaveOrder(user, couponContext.userCoupon(), priceResult, delivery);
+        Order order = createAndSaveOrder(user, couponContext.userCoupon(), quote, delivery, idempotencyKey);
         addOrderItemsAndApplyStockAndCoupon(order, itemInputs, productMap, couponContext.userCoupon());
 
         return order;
@@ -180,22 +260,25 @@ public class OrderService {
     private Order createAndSaveOrder(
         User user,
         UserCoupon userCoupon,
-        PriceCalculationResult priceResult,
-        DeliveryInfo delivery
+        PriceQuote quote,
+        DeliveryInfo delivery,
+        String idempotencyKey
     ) {
         Order order = Order.create(
             user,
             userCoupon,
-            priceResult.totalProductPrice(),
-            priceResult.discountAmount(),
-            priceResult.deliveryFee(),
-            priceResult.finalPrice(),
+            quote.totalProductPrice().toBigDecimal(),
+            quote.discountAmount().toBigDecimal(),
+            quote.deliveryFee().toBigDecimal(),
+            quote.finalPrice().toBigDecimal(),
             delivery.recipientName(),
             delivery.recipientPhone(),
             delivery.deliveryAddress(),
             delivery.deliveryDetailAddress(),
             delivery.deliveryMessage()
         );
+        order.assignIdempotencyKey(idempotencyKey);
+        // IDENTITY 라 여기서 INSERT 되므로, 같은 키의 주문이 이미 있으면 재고 차감 전에 UNIQUE 제약 위반으로 실패
         orderRepository.save(order);
         return order;
     }
@@ -206,14 +289,38 @@ public class OrderService {
         Map<Long, Product> productMap,
         UserCoupon userCoupon
     ) {
+        // Order 는 IDENTITY 라 save 시점에 INSERT 되지만, OrderItem 은 (order_id, product_id) 복합키라
+        // flush 시 hibernate.jdbc.batch_size 단위 JDBC 배치로 한 번에 INSERT 됨
         for (OrderItemInput input : itemInputs) {
             Product product = productMap.get(input.productId());
             OrderItem orderItem = new OrderItem(order, product, input.quantity(), product.getPrice());
             order.addOrderItem(orderItem);
-            product.deductStock(input.quantity());
         }
+        deductStockAtomically(itemInputs, productMap);
+        productDetailCache.evictAll(productMap.keySet());
         if (userCoupon != null) {
             userCoupon.use();
+            userCouponService.evictCouponCache(order.getUser().getId());
+        }
+    }
+
+    /**
+     * 상품별 조건부 UPDATE(stock >= 수량) 로 재고를 차감합니다. 주문의 모든 상품을 JDBC 배치 한 번으로 보냅니다.
+     * 엔티티 dirty checking(@Version) 대신 행 잠금으로 직렬화하므로 인기 상품에 주문이 몰려도 낙관적 락 충돌이 나지 않습니다.
+     * 교착 상태를 피하려고 상품 id 오름차순으로 처리하며, 같은 상품이 여러 번 오면 수량을 합칩니다.
+     * 하나라도 실패하면 예외로 트랜잭션 전체(같은 배치에서 차감된 재고 포함)가 롤백됩니다.
+     */
+    private void deductStockAtomically(List<OrderItemInput> itemInputs, Map<Long, Product> productMap) {
+        SortedMap<Long, Integer> quantities = new TreeMap<>();
+        for (OrderItemInput input : itemInputs) {
+            quantities.merge(input.productId(), input.quantity(), Integer::sum);
+        }
+        List<Long> failed = productStockRepository.deductAll(quantities);
+        if (!failed.isEmpty()) {
+            Long productId = failed.get(0);
+            Product product = productMap.get(productId);
+            int available = productRepository.findStockById(productId).orElse(0);
+            throw new InsufficientStockException(product.getName(), quantities.get(productId), available);
         }
     }
 
@@ -228,24 +335,26 @@ public class OrderService {
     ) {}
 
     @Transactional(readOnly = true)
-    public Page<OrderResponse> getOrders(Integer userId, Integer page, Integer limit, String status) {
+    public Slice<OrderResponse> getOrders(Integer userId, Integer page, Integer limit, String status) {
         int safePage = page != null && page >= 1 ? page : 1;
         int safeLimit = limit != null && limit >= 1 ? Math.min(limit, 100) : 10;
 
         log.debug("주문 목록 조회: userId={}, page={}, limit={}", userId, safePage, safeLimit);
 
-        PageRequest pageable = PageRequest.of(
-            safePage - 1,
-            safeLimit,
-            Sort.by(Sort.Direction.DESC, "createdAt")
-        );
+        OrderStatus orderStatus = null;
+        if (status != null && !status.isBlank()) {
+            try {
+                orderStatus = OrderStatus.valueOf(status.toUpperCase());
+            } catch (IllegalArgumentException e) {
+                log.warn("유효하지 않은 주문 상태: {}, 전체 조회로 대체", status);
+            }
+        }
 
-        Page<Order> orderPage = findOrdersByUserAndStatus(userId, status, pageable);
-        return orderPage.map(OrderResponse::from);
+        return findOrderSlice(userId, orderStatus, null, PageRequest.of(safePage - 1, safeLimit));
     }
 
     @Transactional(readOnly = true)
-    public Page<OrderResponse> getMyOrders(Integer userId, Integer page, Integer limit, String status, Integer months) {
+    public Slice<OrderResponse> getMyOrders(Integer userId, Integer page, Integer limit, String status, Integer months) {
         int safePage = page != null && page >= 1 ? page : 1;
         int safeLimit = limit != null && limit >= 1 ? Math.min(limit, 100) : 10;
 
@@ -253,12 +362,6 @@ public class OrderService {
             throw new IllegalArgumentException("months must be one of 1, 3, 6");
         }
 
-        PageRequest pageable = PageRequest.of(
-                safePage - 1,
-                safeLimit,
-                Sort.by(Sort.Direction.DESC, "createdAt")
-        );
-
         OrderStatus orderStatus = null;
         if (status != null && !status.isBlank()) {
             try {
@@ -268,37 +371,46 @@ public class OrderService {
             }
         }
 
-        Page<Order> orderPage;
-        if (months == null) {
-            if (orderStatus == null) {
-                orderPage = orderRepository.findAllByUserId(userId, pageable);
-            } else {
-                orderPage = orderRepository.findAllByUserIdAndOrderStatus(userId, orderStatus, pageable);
-            }
-        } else {
-            LocalDateTime fromDate = LocalDateTime.now().minusMonths(months);
-            if (orderStatus == null) {
-                orderPage = orderRepository.findAllByUserIdAndCreatedAtGreaterThanEqual(userId, fromDate, pageable);
-            } else {
-                orderPage = orderRepository.findAllByUserIdAndOrderStatusAndCreatedAtGreaterThanEqual(
-                        userId, orderStatus, fromDate, pageable
-                );
-            }
+        LocalDateTime fromDate = months != null ? LocalDateTime.now().minusMonths(months) : null;
+        return findOrderSlice(userId, orderStatus, fromDate, PageRequest.of(safePage - 1, safeLimit));
+    }
+
+    /**
+     * 2단계 조회: (1) 주문 id 한 페이지 + 1건을 DB 에서 페이징 (COUNT 없음)
+     * (2) 그 id 들의 요약 컬럼과 주문 항목 수를 DTO projection 으로 조회.
+     * 컬렉션 fetch join 도, 엔티티 적재도 없으므로 목록 조회가 영속성 컨텍스트를 거치지 않습니다.
+     */
+    private Slice<OrderResponse> findOrderSlice(
+        Integer userId,
+        OrderStatus orderStatus,
+        LocalDateTime fromDate,
+        PageRequest pageable
+    ) {
+        Slice<Integer> idSlice = orderRepository.findIdSliceByUserId(userId, orderStatus, fromDate, pageable);
+        if (idSlice.isEmpty()) {
+            return new SliceImpl<>(List.of(), pageable, false);
         }
 
-        return orderPage.map(OrderResponse::from);
-    }
+        Map<Integer, OrderResponse> summariesById = new HashMap<>();
+        orderRepository.findSummariesByIdIn(idSlice.getContent())
+            .forEach(summary -> summariesById.put(summary.id(), summary));
 
-    private Page<Order> findOrdersByUserAndStatus(Integer userId, String status, PageRequest pageable) {
-        if (status != null && !status.isBlank()) {
-            try {
-                OrderStatus orderStatus = OrderStatus.valueOf(status.toUpperCase());
-                return orderRepository.findAllByUserIdAndOrderStatus(userId, orderStatus, pageable);
-            } catch (IllegalArgumentException e) {
-                log.warn("유효하지 않은 주문 상태: {}, 전체 조회로 대체", status);
+        // IN 조회는 순서를 보장하지 않으므로 1단계(최신순) 순서로 재배열
+        List<OrderResponse> content = new ArrayList<>(idSlice.getNumberOfElements());
+        for (Integer orderId : idSlice.getContent()) {
+            OrderResponse summary = summariesById.get(orderId);
+            if (summary != null) {
+                content.add(summary);
             }
         }
-        return orderRepository.findAllByUserId(userId, pageable);
+        return new SliceImpl<>(content, pageable, idSlice.hasNext());
+    }
+
+    /** 같은 멱등성 키로 이미 생성된 주문. 다른 노드에서 처리된 재시도를 확인할 때 사용합니다. */
+    @Transactional(readOnly = true)
+    public Optional<CreateOrderResponse> findCreatedOrder(Integer userId, String idempotencyKey) {
+        return orderRepository.findByUser_IdAndIdempotencyKey(userId, idempotencyKey)
+            .map(CreateOrderResponse::from);
     }
 
     @Transactional(readOnly = true)
@@ -316,6 +428,7 @@ public class OrderService {
         return OrderDetailResponse.from(order);
     }
 
+    @Timed(value = "order.cancel", histogram = true)
     @Transactional
     public CancelOrderResponse cancelOrder(Integer userId, Integer orderId, String cancelReason) {
         log.debug("주문 취소 시작: userId={}, orderId={}", userId, orderId);
@@ -345,18 +458,26 @@ public class OrderService {
     }
 
     private void restoreStockForOrderItems(Order order) {
+        // 차감과 같은 방식(조건부 UPDATE 배치, id 오름차순)으로 복구
+        SortedMap<Long, Integer> quantities = new TreeMap<>();
         for (OrderItem orderItem : order.getOrderItems()) {
-            Product product = orderItem.getProduct();
-            product.restoreStock(orderItem.getQuantity());
-            log.debug("재고 복구: productId={}, 복구량={}, 새 재고={}",
-                product.getId(), orderItem.getQuantity(), product.getStock());
+            quantities.merge(orderItem.getProduct().getId(), orderItem.getQuantity(), Integer::sum);
+        }
+        List<Long> missing = productStockRepository.restoreAll(quantities);
+        if (!missing.isEmpty()) {
+            log.warn("재고 복구 대상 상품 없음: productIds={}", missing);
         }
+        log.debug("재고 복구: orderId={}, 상품 수={}", order.getId(), quantities.size());
+        productDetailCache.evictAll(order.getOrderItems().stream()
+            .map(orderItem -> orderItem.getProduct().getId())
+            .toList());
     }
 
     private void restoreCouponIfUsed(Order order) {
         UserCoupon userCoupon = order.getUserCoupon();
         if (userCoupon != null) {
             userCoupon.restore();
+            userCouponService.evictCouponCache(order.getUser().getId());
             log.debug("쿠폰 복구: userCouponId={}", userCoupon.getId());
         }
     }
@@ -1,79 +1,89 @@
 package com.gdg.sprint.team1.service;
 
 import java.math.BigDecimal;
-import java.math.RoundingMode;
 import java.util.List;
 
 import org.springframework.stereotype.Service;
 
+import com.gdg.sprint.team1.domain.pricing.CouponVerdict;
+import com.gdg.sprint.team1.domain.pricing.DiscountBreakdown;
+import com.gdg.sprint.team1.domain.pricing.Money;
+import com.gdg.sprint.team1.domain.pricing.PriceQuote;
 import com.gdg.sprint.team1.dto.pricing.CouponInfo;
 import com.gdg.sprint.team1.dto.pricing.PriceCalculationResult;
 import com.gdg.sprint.team1.dto.pricing.PriceItem;
 
+/**
+ * 주문 금액 계산. 내부 계산은 Money(long, 1/100 원 단위)로 하고 결과만 BigDecimal(소수 2자리)로 변환합니다.
+ * <p>
+ * quote 는 상품 금액 합계를 한 번만 구하고, 같은 합계로 쿠폰 최소 주문 금액 판정, 할인, 배송비를 계산합니다.
+ * 쿠폰 소유/사용 가능 여부는 호출 전에 UserCouponService.resolveForOrder 에서 확인합니다.
+ */
 @Service
 public class PriceCalculationService {
 
-    private static final BigDecimal FREE_SHIPPING_THRESHOLD = BigDecimal.valueOf(30000);
-    private static final BigDecimal DELIVERY_FEE = BigDecimal.valueOf(3000);
-    private static final BigDecimal ZERO = BigDecimal.ZERO.setScale(2, RoundingMode.HALF_UP);
+    private static final Money FREE_SHIPPING_THRESHOLD = Money.won(30000);
+    private static final Money DELIVERY_FEE = Money.won(3000);
 
-    public PriceCalculationResult calculateTotal(List<PriceItem> items, CouponInfo coupon) {
+    public PriceQuote quote(List<PriceItem> items, CouponInfo coupon) {
         if (items == null || items.isEmpty()) {
-            return new PriceCalculationResult(ZERO, ZERO, ZERO, ZERO);
+            return PriceQuote.EMPTY;
         }
 
-        BigDecimal totalProductPrice = items.stream()
-            .map(item -> toMoney(item.unitPrice()).multiply(BigDecimal.valueOf(item.quantity())))
-            .reduce(ZERO, BigDecimal::add);
+        Money totalProductPrice = totalProductPrice(items);
+        DiscountBreakdown discount = calculateDiscount(totalProductPrice, coupon);
+        CouponVerdict verdict = verdict(totalProductPrice, discount);
+        Money discountAmount = discount != null ? discount.applied() : Money.ZERO;
+        Money deliveryFee = calculateDeliveryFee(totalProductPrice);
+        Money finalPrice = totalProductPrice.minus(discountAmount).plus(deliveryFee);
 
-        BigDecimal discountAmount = calculateDiscount(totalProductPrice, coupon);
-        BigDecimal deliveryFee = calculateDeliveryFee(totalProductPrice);
-        BigDecimal finalPrice = totalProductPrice.subtract(discountAmount).add(deliveryFee);
+        return new PriceQuote(totalProductPrice, discountAmount, deliveryFee, finalPrice, verdict, discount);
+    }
 
-        return new PriceCalculationResult(
-            totalProductPrice,
-            discountAmount,
-            deliveryFee,
-            finalPrice
-        );
+    public PriceCalculationResult calculateTotal(List<PriceItem> items, CouponInfo coupon) {
+        return quote(items, coupon).toResult();
     }
 
-    private BigDecimal calculateDiscount(BigDecimal totalProductPrice, CouponInfo coupon) {
-        if (coupon == null || coupon.type() == null) return ZERO;
+    /** 상품 금액 합계 (단가는 소수 2자리로 반올림 후 수량을 곱함) */
+    private static Money totalProductPrice(List<PriceItem> items) {
+        long total = 0;
+        for (PriceItem item : items) {
+            total = Math.addExact(total, Money.of(item.unitPrice()).times(item.quantity()).minor());
+        }
+        return new Money(total);
+    }
 
-        BigDecimal minOrderPrice = coupon.minOrderPrice() == null
-            ? BigDecimal.ZERO
-            : coupon.minOrderPrice();
-        if (totalProductPrice.compareTo(minOrderPrice) < 0) return ZERO;
+    private DiscountBreakdown calculateDiscount(Money totalProductPrice, CouponInfo coupon) {
+        if (coupon == null || coupon.type() == null) return null;
 
+        Money minOrderPrice = Money.ceilingOf(coupon.minOrderPrice());
         BigDecimal discountValue = coupon.discountValue() == null
             ? BigDecimal.ZERO
             : coupon.discountValue();
 
-        BigDecimal discount = switch (coupon.type()) {
-            case PERCENTAGE -> totalProductPrice
-                .multiply(discountValue.divide(BigDecimal.valueOf(100), 4, RoundingMode.HALF_UP));
-            case FIXED -> discountValue;
+        Money calculated = switch (coupon.type()) {
+            case PERCENTAGE -> totalProductPrice.percent(discountValue);
+            case FIXED -> Money.of(discountValue);
         };
+        Money applied = totalProductPrice.isLessThan(minOrderPrice)
+            ? Money.ZERO
+            : calculated.min(totalProductPrice);
+        return new DiscountBreakdown(coupon.type(), discountValue, minOrderPrice, calculated, applied);
+    }
 
-        discount = toMoney(discount);
-        if (discount.compareTo(totalProductPrice) > 0) {
-            discount = totalProductPrice;
-        }
-        return discount;
+    private CouponVerdict verdict(Money totalProductPrice, DiscountBreakdown discount) {
+        if (discount == null) return CouponVerdict.NONE;
+        return totalProductPrice.isLessThan(discount.minOrderPrice())
+            ? CouponVerdict.MIN_ORDER_NOT_MET
+            : CouponVerdict.APPLIED;
     }
 
-    private BigDecimal calculateDeliveryFee(BigDecimal totalProductPrice) {
-        if (totalProductPrice.compareTo(BigDecimal.ZERO) == 0) {
-            return ZERO;
+    private Money calculateDeliveryFee(Money totalProductPrice) {
+        if (totalProductPrice.isZero()) {
+            return Money.ZERO;
         }
         return totalProductPrice.compareTo(FREE_SHIPPING_THRESHOLD) >= 0
-            ? ZERO
+            ? Money.ZERO
             : DELIVERY_FEE;
     }
-
-    private BigDecimal toMoney(BigDecimal value) {
-        if (value == null) return ZERO;
-        return value.setScale(2, RoundingMode.HALF_UP);
-    }
 }
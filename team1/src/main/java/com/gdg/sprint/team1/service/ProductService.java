@@ -15,6 +15,11 @@ import org.springframework.transaction.annotation.Transactional;
 
 import lombok.RequiredArgsConstructor;
 
+import io.micrometer.core.annotation.Timed;
+
+import com.gdg.sprint.team1.cache.ProductDetailCache;
+import com.gdg.sprint.team1.common.ETags;
+import com.gdg.sprint.team1.common.Versioned;
 import com.gdg.sprint.team1.dto.product.*;
 import com.gdg.sprint.team1.entity.Product;
 import com.gdg.sprint.team1.exception.ProductNotFoundException;
@@ -31,9 +36,15 @@ public class ProductService {
     private static final String DEFAULT_ORDER = "desc";
 
     private final ProductRepository productRepository;
+    private final ProductDetailCache productDetailCache;
 
+    /**
+     * version 은 조회된 행의 (id, version) 과 페이지 정보로 만듭니다.
+     * 상품 변경은 재고 차감을 포함해 항상 version 을 올리므로 본문을 직렬화하지 않고도 변경 여부를 알 수 있습니다.
+     */
+    @Timed(value = "product.list", histogram = true)
     @Transactional(readOnly = true)
-    public ProductListResponse getProductList(
+    public Versioned<ProductListResponse> getProductList(
         Integer page,
         Integer limit,
         String status,
@@ -42,7 +53,8 @@ public class ProductService {
         BigDecimal maxPrice,
         Boolean excludeSoldOut,
         String sort,
-        String order
+        String order,
+        String cursor
     ) {
         int safePage = page == null || page < 1 ? 1 : page;
         int safeLimit = limit == null ? DEFAULT_LIMIT : Math.min(Math.max(limit, 1), MAX_LIMIT);
@@ -59,12 +71,6 @@ public class ProductService {
 
         Sort.Direction direction = "asc".equals(safeOrder) ? Sort.Direction.ASC : Sort.Direction.DESC;
         String sortProperty = mapSortProperty(safeSort);
-        Pageable pageable = PageRequest.of(safePage - 1, safeLimit, Sort.by(direction, sortProperty));
-
-        var productPage = productRepository.findAll(spec, pageable);
-        List<ProductListDto> products = productPage.getContent().stream()
-            .map(this::toListDto)
-            .collect(Collectors.toList());
 
         Map<String, Object> filtersApplied = new HashMap<>();
         if (minPrice != null) filtersApplied.put("min_price", minPrice);
@@ -72,6 +78,36 @@ public class ProductService {
         if (status != null && !status.isBlank()) filtersApplied.put("status", status);
         if (exclude) filtersApplied.put("exclude_sold_out", true);
 
+        // 관련도 정렬은 검색어가 있을 때만 의미가 있음. 없으면 기본 정렬(created_at)로 처리
+        boolean byRelevance = "relevance".equalsIgnoreCase(safeSort) && search != null && !search.isBlank();
+
+        if (cursor != null) {
+            if (byRelevance) {
+                throw new IllegalArgumentException("relevance 정렬은 커서 모드를 지원하지 않습니다.");
+            }
+            return getProductListByCursor(
+                spec, safeLimit, sortProperty, direction, cursor, search, filtersApplied);
+        }
+
+        Pageable pageable;
+        if (byRelevance && ProductSpecs.supportsRelevance(search)) {
+            // ORDER BY MATCH(...) AGAINST(...) DESC, id DESC 는 Specification 에서 지정
+            spec = spec.and(ProductSpecs.orderByRelevance(search));
+            pageable = PageRequest.of(safePage - 1, safeLimit);
+        } else if (byRelevance) {
+            // 짧은 단어가 섞여 LIKE 검색으로 대체된 경우 관련도 점수가 없으므로 최신순 (동점은 id)
+            pageable = PageRequest.of(safePage - 1, safeLimit,
+                Sort.by(Sort.Direction.DESC, "createdAt").and(Sort.by(Sort.Direction.DESC, "id")));
+        } else {
+            pageable = PageRequest.of(safePage - 1, safeLimit, Sort.by(direction, sortProperty));
+        }
+
+        var productPage = productRepository.findAll(spec, pageable);
+        ETags.Builder version = ETags.builder();
+        List<ProductListDto> products = productPage.getContent().stream()
+            .map(p -> toListDto(p, version))
+            .collect(Collectors.toList());
+
         SearchInfo searchInfo = new SearchInfo(
             search != null ? search : null,
             productPage.getTotalElements(),
@@ -87,17 +123,76 @@ public class ProductService {
             productPage.hasPrevious()
         );
 
-        return new ProductListResponse(products, searchInfo, pagination);
+        return new Versioned<>(
+            new ProductListResponse(products, searchInfo, pagination),
+            version.add(pagination).build()
+        );
+    }
+
+    /**
+     * 커서(keyset) 모드: OFFSET 과 COUNT 쿼리 없이 (정렬 컬럼, id) 기준으로 limit + 1 건만 조회합니다.
+     * cursor 가 빈 문자열이면 첫 페이지입니다.
+     */
+    private Versioned<ProductListResponse> getProductListByCursor(
+        Specification<Product> spec,
+        int limit,
+        String sortProperty,
+        Sort.Direction direction,
+        String cursor,
+        String search,
+        Map<String, Object> filtersApplied
+    ) {
+        boolean ascending = direction == Sort.Direction.ASC;
+        boolean hasPrev = !cursor.isBlank();
+        if (hasPrev) {
+            ProductCursor decoded = ProductCursor.decode(cursor);
+            if (!decoded.sortProperty().equals(sortProperty) || decoded.ascending() != ascending) {
+                throw new IllegalArgumentException("커서의 정렬 조건이 요청과 일치하지 않습니다.");
+            }
+            spec = spec.and(ProductSpecs.keysetAfter(sortProperty, ascending, decoded.value(), decoded.id()));
+        }
+
+        Sort keysetSort = Sort.by(direction, sortProperty).and(Sort.by(direction, "id"));
+        List<Product> rows = productRepository.findBy(spec, query -> query
+            .sortBy(keysetSort)
+            .limit(limit + 1)
+            .all());
+
+        boolean hasNext = rows.size() > limit;
+        List<Product> pageRows = hasNext ? rows.subList(0, limit) : rows;
+        String nextCursor = hasNext
+            ? ProductCursor.of(sortProperty, ascending, pageRows.get(pageRows.size() - 1)).encode()
+            : null;
+
+        ETags.Builder version = ETags.builder();
+        List<ProductListDto> products = pageRows.stream()
+            .map(p -> toListDto(p, version))
+            .collect(Collectors.toList());
+
+        SearchInfo searchInfo = new SearchInfo(
+            search,
+            null,
+            filtersApplied.isEmpty() ? null : filtersApplied
+        );
+
+        PaginationInfo pagination = PaginationInfo.cursor(limit, hasNext, hasPrev, nextCursor);
+        return new Versioned<>(
+            new ProductListResponse(products, searchInfo, pagination),
+            version.add(pagination).build()
+        );
     }
 
     @Transactional(readOnly = true)
     public ProductDetailDto getProductById(Long id) {
-        Product product = productRepository.findById(id)
-            .orElseThrow(() -> new ProductNotFoundException(id));
-        return toDetailDto(product);
+        return productDetailCache.get(id, key -> {
+            Product product = productRepository.findById(key)
+                .orElseThrow(() -> new ProductNotFoundException(key));
+            return toDetailDto(product);
+        });
     }
 
-    private ProductListDto toListDto(Product p) {
+    private ProductListDto toListDto(Product p, ETags.Builder version) {
+        version.add(p.getId()).add(p.getVersion());
         return new ProductListDto(
             p.getId(),
             p.getName(),
@@ -121,7 +216,8 @@ public class ProductService {
             p.getProductStatus().name(),
             p.getImageUrl(),
             p.getCreatedAt(),
-            p.getUpdatedAt()
+            p.getUpdatedAt(),
+            p.getVersion()
         );
     }
 
@@ -139,6 +235,6 @@ public class ProductService {
         String status,
         String search
     ) {
-        return getProductList(page, limit, status, search, null, null, null, null, null);
+        return getProductList(page, limit, status, search, null, null, null, null, null, null).body();
     }
 }
@@ -0,0 +1,133 @@
+package com.gdg.sprint.team1.service;
+
+import java.time.LocalDateTime;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+import com.gdg.sprint.team1.cache.RefreshTokenRevocationIndex;
+import com.gdg.sprint.team1.config.JwtProperties;
+import com.gdg.sprint.team1.entity.RefreshToken;
+import com.gdg.sprint.team1.entity.User;
+import com.gdg.sprint.team1.repository.RefreshTokenRepository;
+
+/**
+ * refresh token 저장소. 토큰은 SHA-256 digest 로만 저장/조회합니다.
+ * <p>
+ * 회전은 UPDATE 한 문장(rotate)으로 하고, 회전에 쓰인/실패한 토큰은 폐기 색인에 넣어
+ * 같은 토큰의 재시도는 DB 를 거치지 않고 거절합니다. 만료된 행은 주기 작업이 나눠서 삭제합니다.
+ */
+@Service
+public class RefreshTokenService {
+
+    private static final Logger log = LoggerFactory.getLogger(RefreshTokenService.class);
+    private static final String METRIC = "auth.refresh.rotations";
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final RefreshTokenRevocationIndex revocationIndex;
+    private final JwtProperties jwtProperties;
+    private final MeterRegistry meterRegistry;
+    private final int purgeBatchSize;
+
+    public RefreshTokenService(
+        RefreshTokenRepository refreshTokenRepository,
+        RefreshTokenRevocationIndex revocationIndex,
+        JwtProperties jwtProperties,
+        MeterRegistry meterRegistry,
+        @Value("${app.jwt.refresh-purge-batch-size:1000}") int purgeBatchSize
+    ) {
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.revocationIndex = revocationIndex;
+        this.jwtProperties = jwtProperties;
+        this.meterRegistry = meterRegistry;
+        this.purgeBatchSize = purgeBatchSize;
+    }
+
+    @Transactional
+    public void issue(User user, String token) {
+        refreshTokenRepository.save(new RefreshToken(user, RefreshToken.hashOf(token), newExpiresAt()));
+    }
+
+    /** 폐기 색인에 있으면 DB 조회 없이 false (이미 회전되었거나 DB 에 없는 토큰) */
+    public boolean isRevoked(String token) {
+        boolean revoked = revocationIndex.isRevoked(RefreshToken.hashOf(token));
+        if (revoked) {
+            count("revoked_index");
+        }
+        return revoked;
+    }
+
+    /**
+     * oldToken 을 newToken 으로 교체합니다. 본인 소유의 만료 전 토큰이 없으면 false.
+     * 결과와 관계없이 oldToken 은 더 이상 쓸 수 없으므로 폐기 색인에 넣습니다 (회전 성공 시에는 커밋 후).
+     */
+    @Transactional
+    public boolean rotate(Integer userId, String oldToken, String newToken) {
+        String oldHash = RefreshToken.hashOf(oldToken);
+        int updated = refreshTokenRepository.rotate(
+            oldHash,
+            RefreshToken.hashOf(newToken),
+            userId,
+            newExpiresAt(),
+            LocalDateTime.now()
+        );
+        if (updated == 1) {
+            count("rotated");
+            revokeAfterCommit(oldHash);
+            return true;
+        }
+        count("not_found");
+        revocationIndex.revoke(oldHash);
+        return false;
+    }
+
+    /** 만료된 행을 purgeBatchSize 개씩 나눠 삭제합니다 (배치마다 별도 트랜잭션). */
+    @Scheduled(
+        initialDelayString = "${app.jwt.refresh-purge-interval-ms:3600000}",
+        fixedDelayString = "${app.jwt.refresh-purge-interval-ms:3600000}"
+    )
+    public void purgeExpired() {
+        LocalDateTime now = LocalDateTime.now();
+        int total = 0;
+        int deleted;
+        do {
+            deleted = refreshTokenRepository.deleteExpiredBatch(now, purgeBatchSize);
+            total += deleted;
+        } while (deleted == purgeBatchSize);
+
+        if (total > 0) {
+            log.info("만료된 refresh token 삭제: {}건", total);
+        }
+        meterRegistry.counter("auth.refresh.purged").increment(total);
+    }
+
+    // 롤백되면 oldToken 이 DB 에 그대로 남으므로 커밋된 경우에만 색인에 넣음
+    private void revokeAfterCommit(String tokenHash) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            revocationIndex.revoke(tokenHash);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                revocationIndex.revoke(tokenHash);
+            }
+        });
+    }
+
+    private LocalDateTime newExpiresAt() {
+        return LocalDateTime.now().plusDays(jwtProperties.getRefreshExpireDays());
+    }
+
+    private void count(String result) {
+        meterRegistry.counter(METRIC, "result", result).increment();
+    }
+}
@@ -1,28 +1,63 @@
 package com.gdg.sprint.team1.service;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Locale;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import jakarta.annotation.PreDestroy;
 
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
+import io.micrometer.core.annotation.Timed;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
 import software.amazon.awssdk.core.sync.RequestBody;
 import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompletedMultipartUpload;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
 import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
 import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.UploadPartRequest;
 
 import com.gdg.sprint.team1.exception.FileUploadException;
 
+/**
+ * 상품 이미지 업로드/삭제.
+ * <p>
+ * 업로드는 전용 스레드 풀(크기/대기열 제한)에서 multipart 본문을 그대로 S3 로 스트리밍합니다.
+ * 임계값 이상인 파일은 S3 멀티파트 업로드로 파트 단위(기본 5MB)로 나눠 보내 전체를 메모리에 올리지 않습니다.
+ * 호출하는 쪽은 DB 트랜잭션 밖에서 uploadFile 을 호출해야 커넥션을 네트워크 전송 동안 잡지 않습니다.
+ * <p>
+ * 삭제(이전 이미지, DB 반영에 실패한 업로드)는 deleteLater 로 대기열에 넣고 주기 작업이 처리합니다.
+ * 대기열은 노드 메모리에만 있으므로 재시작 시 남은 항목은 버려집니다 (고아 객체로 남음).
+ */
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class S3Service {
 
     private static final long MAX_FILE_SIZE = 10 * 1024 * 1024; // 10MB
@@ -31,33 +66,161 @@ public class S3Service {
         "image/jpeg",
         "image/webp"
     );
+    // S3 멀티파트 업로드의 마지막 파트를 제외한 최소 파트 크기
+    private static final int MIN_PART_SIZE = 5 * 1024 * 1024;
+    private static final int MAX_DELETE_ATTEMPTS = 5;
+
+    private record PendingDeletion(String fileUrl, int attempts) {}
 
     private final S3Client s3Client;
+    private final String bucketName;
+    private final String region;
+    private final long uploadTimeoutSeconds;
+    private final long multipartThreshold;
+    private final int partSize;
+    private final ThreadPoolExecutor uploadExecutor;
+    private final BlockingQueue<PendingDeletion> deletions = new LinkedBlockingQueue<>();
 
-    @Value("${cloud.aws.s3.bucket}")
-    private String bucketName;
+    public S3Service(
+        S3Client s3Client,
+        MeterRegistry meterRegistry,
+        @Value("${cloud.aws.s3.bucket}") String bucketName,
+        @Value("${cloud.aws.region.static}") String region,
+        @Value("${app.image.upload.threads:4}") int threads,
+        @Value("${app.image.upload.queue-capacity:16}") int queueCapacity,
+        @Value("${app.image.upload.timeout-seconds:30}") long uploadTimeoutSeconds,
+        @Value("${app.image.upload.multipart-threshold-bytes:5242880}") long multipartThreshold,
+        @Value("${app.image.upload.part-size-bytes:5242880}") int partSize
+    ) {
+        this.s3Client = s3Client;
+        this.bucketName = bucketName;
+        this.region = region;
+        this.uploadTimeoutSeconds = uploadTimeoutSeconds;
+        this.multipartThreshold = multipartThreshold;
+        this.partSize = Math.max(partSize, MIN_PART_SIZE);
+        // 대기열이 차면 요청 스레드에서 실행하지 않고 바로 거절 (관리자 일괄 수정이 요청 스레드를 모두 잡지 않도록)
+        this.uploadExecutor = new ThreadPoolExecutor(
+            threads, threads,
+            60, TimeUnit.SECONDS,
+            new ArrayBlockingQueue<>(queueCapacity),
+            new CustomizableThreadFactory("image-upload-"),
+            new ThreadPoolExecutor.AbortPolicy()
+        );
+        this.uploadExecutor.allowCoreThreadTimeOut(true);
 
-    @Value("${cloud.aws.region.static}")
-    private String region;
+        Gauge.builder("s3.upload.queued", uploadExecutor, e -> e.getQueue().size()).register(meterRegistry);
+        Gauge.builder("s3.upload.active", uploadExecutor, ThreadPoolExecutor::getActiveCount).register(meterRegistry);
+        Gauge.builder("s3.delete.pending", deletions, BlockingQueue::size).register(meterRegistry);
+    }
 
+    /**
+     * 이미지를 업로드하고 URL 을 반환합니다. 파일이 없으면 null.
+     * 형식/크기 검사는 호출 스레드에서 먼저 하고, 전송은 업로드 전용 스레드에서 합니다.
+     */
+    @Timed(value = "s3.upload", histogram = true)
     public String uploadFile(MultipartFile file) {
+        if (!hasContent(file)) {
+            return null;
+        }
+        String contentType = validate(file);
+
+        String uniqueFilename = UUID.randomUUID() + "_" + file.getOriginalFilename();
+        log.info("S3 업로드 시작: 원본={}, 고유명={}, 크기={}bytes",
+            file.getOriginalFilename(), uniqueFilename, file.getSize());
+
+        CompletableFuture<String> upload;
+        try {
+            upload = CompletableFuture.supplyAsync(
+                () -> store(file, uniqueFilename, contentType),
+                uploadExecutor
+            );
+        } catch (RejectedExecutionException e) {
+            log.warn("이미지 업로드 대기열 초과: 고유명={}", uniqueFilename);
+            throw new FileUploadException("이미지 업로드 요청이 많습니다. 잠시 후 다시 시도해주세요.", e);
+        }
+
+        try {
+            String fileUrl = upload.get(uploadTimeoutSeconds, TimeUnit.SECONDS);
+            log.info("S3 업로드 성공: URL={}", fileUrl);
+            return fileUrl;
+        } catch (TimeoutException e) {
+            // 늦게라도 올라가면 쓰이지 않는 객체이므로 삭제 대기열로
+            upload.thenAccept(this::deleteLater);
+            throw new FileUploadException("S3 업로드 시간이 초과되었습니다.", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            upload.thenAccept(this::deleteLater);
+            throw new FileUploadException("S3 업로드가 중단되었습니다.", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof FileUploadException cause) {
+                throw cause;
+            }
+            throw new FileUploadException("S3 업로드에 실패했습니다.", e.getCause());
+        }
+    }
+
+    /** 바로 삭제합니다. 실패는 로그만 남깁니다. */
+    public void deleteFile(String fileUrl) {
+        if (fileUrl == null || fileUrl.isBlank()) {
+            log.debug("삭제할 파일 URL이 없음");
+            return;
+        }
+        try {
+            deleteObject(fileUrl);
+        } catch (Exception e) {
+            log.error("S3 삭제 실패: URL={}, 에러={}", fileUrl, e.getMessage(), e);
+        }
+    }
+
+    /** 삭제 대기열에 넣습니다. 요청/트랜잭션과 무관하게 주기 작업에서 삭제됩니다. */
+    public void deleteLater(String fileUrl) {
+        if (fileUrl == null || fileUrl.isBlank()) {
+            return;
+        }
+        deletions.offer(new PendingDeletion(fileUrl, 0));
+    }
+
+    /** 삭제 대기열 처리. 실패한 항목은 최대 MAX_DELETE_ATTEMPTS 번까지 다음 주기에 다시 시도합니다. */
+    @Scheduled(fixedDelayString = "${app.image.cleanup-interval-ms:1000}")
+    public void processDeletions() {
+        List<PendingDeletion> batch = new ArrayList<>();
+        deletions.drainTo(batch);
+        for (PendingDeletion deletion : batch) {
+            try {
+                deleteObject(deletion.fileUrl());
+            } catch (RuntimeException e) {
+                int attempts = deletion.attempts() + 1;
+                if (attempts < MAX_DELETE_ATTEMPTS) {
+                    log.warn("S3 삭제 실패, 다시 시도 예정: URL={}, 시도={}", deletion.fileUrl(), attempts);
+                    deletions.offer(new PendingDeletion(deletion.fileUrl(), attempts));
+                } else {
+                    log.error("S3 삭제 포기: URL={}", deletion.fileUrl(), e);
+                }
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        uploadExecutor.shutdown();
+        processDeletions();
+    }
+
+    private static boolean hasContent(MultipartFile file) {
         if (file == null || file.isEmpty()) {
             log.info("파일이 제공되지 않아 null 반환");
-            return null;
+            return false;
         }
 
         String originalFilename = file.getOriginalFilename();
-
         if (originalFilename == null || originalFilename.isBlank() || originalFilename.equals("blob")) {
             log.info("유효하지 않은 파일명({}), null 반환", originalFilename);
-            return null;
-        }
-
-        if (file.getSize() == 0) {
-            log.info("파일 크기가 0, null 반환");
-            return null;
+            return false;
         }
+        return true;
+    }
 
+    private static String validate(MultipartFile file) {
         if (file.getSize() > MAX_FILE_SIZE) {
             String errorMsg = String.format(
                 "파일 크기가 너무 큽니다. (최대: 10MB, 현재: %.2fMB)",
@@ -70,41 +233,30 @@ public class S3Service {
         String contentType = file.getContentType();
         if (contentType == null ||
             !ALLOWED_CONTENT_TYPES.contains(contentType.toLowerCase(Locale.ROOT))) {
-            String errorMsg = "이미지 파일만 업로드 가능합니다. (지원: PNG, JPG, WEBP)";
             log.warn("지원하지 않는 파일 형식: {}", contentType);
-            throw new IllegalArgumentException(errorMsg);
+            throw new IllegalArgumentException("이미지 파일만 업로드 가능합니다. (지원: PNG, JPG, WEBP)");
         }
+        return contentType;
+    }
 
-        String uniqueFilename = UUID.randomUUID() + "_" + originalFilename;
-        log.info("S3 업로드 시작: 원본={}, 고유명={}, 크기={}bytes",
-            originalFilename, uniqueFilename, file.getSize());
-
-        try {
-            PutObjectRequest putObjectRequest = PutObjectRequest.builder()
-                .bucket(bucketName)
-                .key(uniqueFilename)
-                .contentType(contentType)
-                .contentLength(file.getSize())
-                .build();
-
-            try (InputStream inputStream = file.getInputStream()) {
-                s3Client.putObject(
-                    putObjectRequest,
-                    RequestBody.fromInputStream(inputStream, file.getSize())
-                );
+    /** 업로드 전용 스레드에서 실행. multipart 임시 파일/메모리에서 바로 읽어 보냅니다. */
+    private String store(MultipartFile file, String key, String contentType) {
+        try (InputStream inputStream = file.getInputStream()) {
+            if (file.getSize() >= multipartThreshold) {
+                multipartUpload(key, contentType, inputStream);
+            } else {
+                PutObjectRequest putObjectRequest = PutObjectRequest.builder()
+                    .bucket(bucketName)
+                    .key(key)
+                    .contentType(contentType)
+                    .contentLength(file.getSize())
+                    .build();
+                s3Client.putObject(putObjectRequest, RequestBody.fromInputStream(inputStream, file.getSize()));
             }
+            return String.format("https://%s.s3.%s.amazonaws.com/%s", bucketName, region, key);
 
-            String fileUrl = String.format(
-                "https://%s.s3.%s.amazonaws.com/%s",
-                bucketName,
-                region,
-                uniqueFilename
-            );
-            log.info("S3 업로드 성공: URL={}", fileUrl);
-            return fileUrl;
-
-        } catch (IOException e) {
-            log.error("파일 읽기 실패: {}", originalFilename, e);
+        } catch (IOException | UncheckedIOException e) {
+            log.error("파일 읽기 실패: {}", file.getOriginalFilename(), e);
             throw new FileUploadException("파일 업로드에 실패했습니다.", e);
 
         } catch (Exception e) {
@@ -113,25 +265,66 @@ public class S3Service {
         }
     }
 
-    public void deleteFile(String fileUrl) {
-        if (fileUrl == null || fileUrl.isBlank()) {
-            log.debug("삭제할 파일 URL이 없음");
-            return;
-        }
-
-        String filename = fileUrl.substring(fileUrl.lastIndexOf("/") + 1);
-        log.info("S3 삭제 시작: 파일명={}", filename);
+    /** 파트 버퍼 하나만 재사용하며 순서대로 보냅니다. 실패하면 업로드를 중단(abort)해 파트가 남지 않게 합니다. */
+    private void multipartUpload(String key, String contentType, InputStream inputStream) throws IOException {
+        String uploadId = s3Client.createMultipartUpload(CreateMultipartUploadRequest.builder()
+                .bucket(bucketName)
+                .key(key)
+                .contentType(contentType)
+                .build())
+            .uploadId();
 
         try {
-            DeleteObjectRequest deleteObjectRequest = DeleteObjectRequest.builder()
+            List<CompletedPart> parts = new ArrayList<>();
+            byte[] buffer = new byte[partSize];
+            int read;
+            while ((read = inputStream.readNBytes(buffer, 0, partSize)) > 0) {
+                int partNumber = parts.size() + 1;
+                String eTag = s3Client.uploadPart(
+                    UploadPartRequest.builder()
+                        .bucket(bucketName)
+                        .key(key)
+                        .uploadId(uploadId)
+                        .partNumber(partNumber)
+                        .contentLength((long) read)
+                        .build(),
+                    RequestBody.fromInputStream(new ByteArrayInputStream(buffer, 0, read), read)
+                ).eTag();
+                parts.add(CompletedPart.builder().partNumber(partNumber).eTag(eTag).build());
+            }
+
+            s3Client.completeMultipartUpload(CompleteMultipartUploadRequest.builder()
                 .bucket(bucketName)
-                .key(filename)
-                .build();
+                .key(key)
+                .uploadId(uploadId)
+                .multipartUpload(CompletedMultipartUpload.builder().parts(parts).build())
+                .build());
+        } catch (IOException | RuntimeException e) {
+            abortMultipartUpload(key, uploadId);
+            throw e;
+        }
+    }
 
-            s3Client.deleteObject(deleteObjectRequest);
-            log.info("S3 삭제 성공: 파일명={}", filename);
-        } catch (Exception e) {
-            log.error("S3 삭제 실패: 파일명={}, 에러={}", filename, e.getMessage(), e);
+    private void abortMultipartUpload(String key, String uploadId) {
+        try {
+            s3Client.abortMultipartUpload(AbortMultipartUploadRequest.builder()
+                .bucket(bucketName)
+                .key(key)
+                .uploadId(uploadId)
+                .build());
+        } catch (RuntimeException e) {
+            log.warn("S3 멀티파트 업로드 중단 실패: key={}, uploadId={}", key, uploadId, e);
         }
     }
-}
\ No newline at end of file
+
+    private void deleteObject(String fileUrl) {
+        String filename = fileUrl.substring(fileUrl.lastIndexOf("/") + 1);
+        log.info("S3 삭제 시작: 파일명={}", filename);
+
+        s3Client.deleteObject(DeleteObjectRequest.builder()
+            .bucket(bucketName)
+            .key(filename)
+            .build());
+        log.info("S3 삭제 성공: 파일명={}", filename);
+    }
+}
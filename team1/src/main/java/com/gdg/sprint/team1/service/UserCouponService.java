@@ -1,6 +1,6 @@
 package com.gdg.sprint.team1.service;
 
-import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.stream.Stream;
 
@@ -9,15 +9,15 @@ import org.springframework.transaction.annotation.Transactional;
 
 import lombok.RequiredArgsConstructor;
 
+import com.gdg.sprint.team1.cache.UserCouponCache;
+import com.gdg.sprint.team1.dto.my.UserCouponSnapshot;
 import com.gdg.sprint.team1.dto.order.CouponContext;
 import com.gdg.sprint.team1.dto.pricing.CouponInfo;
 import com.gdg.sprint.team1.dto.pricing.CouponType;
-import com.gdg.sprint.team1.dto.pricing.PriceItem;
 import com.gdg.sprint.team1.entity.Coupon;
 import com.gdg.sprint.team1.entity.UserCoupon;
 import com.gdg.sprint.team1.exception.CouponNotFoundException;
 import com.gdg.sprint.team1.exception.InvalidCouponException;
-import com.gdg.sprint.team1.exception.MinimumOrderNotMetException;
 import com.gdg.sprint.team1.repository.UserCouponRepository;
 
 @Service
@@ -25,9 +25,14 @@ import com.gdg.sprint.team1.repository.UserCouponRepository;
 public class UserCouponService {
 
     private final UserCouponRepository userCouponRepository;
+    private final UserCouponCache userCouponCache;
 
+    /**
+     * 주문에 쓸 쿠폰의 소유/사용 가능 여부만 확인합니다.
+     * 최소 주문 금액은 금액 계산(PriceCalculationService.quote)이 같은 합계로 판정합니다.
+     */
     @Transactional(readOnly = true)
-    public CouponContext resolveForOrder(Integer userId, Integer userCouponId, List<PriceItem> priceItems) {
+    public CouponContext resolveForOrder(Integer userId, Integer userCouponId) {
         if (userCouponId == null) {
             return new CouponContext(null, null);
         }
@@ -43,15 +48,6 @@ public class UserCouponService {
         }
 
         Coupon coupon = userCoupon.getCoupon();
-        BigDecimal totalProductPrice = priceItems.stream()
-            .map(item -> item.unitPrice().multiply(BigDecimal.valueOf(item.quantity())))
-            .reduce(BigDecimal.ZERO, BigDecimal::add);
-
-        if (coupon.getMinOrderPrice() != null
-            && totalProductPrice.compareTo(coupon.getMinOrderPrice()) < 0) {
-            throw new MinimumOrderNotMetException(totalProductPrice, coupon.getMinOrderPrice());
-        }
-
         CouponInfo couponInfo = new CouponInfo(
             CouponType.valueOf(coupon.getCouponType().name()),
             coupon.getDiscountValue(),
@@ -60,17 +56,54 @@ public class UserCouponService {
         return new CouponContext(userCoupon, couponInfo);
     }
 
-    @Transactional(readOnly = true)
-    public List<UserCoupon> findCouponsByUserId(Integer userId, String status) {
-        List<UserCoupon> list = userCouponRepository.findByUser_IdOrderByIssuedAtDesc(userId);
-        Stream<UserCoupon> stream = list.stream();
+    /**
+     * 금액 미리보기용 쿠폰 확인. 보유 쿠폰 캐시(본인 쿠폰만 담김)에서 찾으므로 DB 를 읽지 않습니다.
+     * 판정 기준은 resolveForOrder 와 같고, 쿠폰이 없으면 null 을 반환합니다.
+     */
+    public CouponInfo resolveForPreview(Integer userId, Integer userCouponId) {
+        if (userCouponId == null) {
+            return null;
+        }
+
+        UserCouponSnapshot snapshot = findCouponsByUserId(userId, null).stream()
+            .filter(uc -> uc.userCouponId().equals(userCouponId))
+            .findFirst()
+            .orElseThrow(() -> new CouponNotFoundException(userCouponId));
+
+        if (!snapshot.isUsable(LocalDateTime.now())) {
+            throw new InvalidCouponException("사용할 수 없는 쿠폰입니다.");
+        }
+        return new CouponInfo(
+            CouponType.valueOf(snapshot.couponType()),
+            snapshot.discountValue(),
+            snapshot.minOrderPrice()
+        );
+    }
+
+    /**
+     * 보유 쿠폰 목록 (캐시). 상태 필터는 캐시된 전체 목록에 조회 시점 기준으로 적용합니다.
+     * 캐시 hit 시 트랜잭션/커넥션을 잡지 않도록 @Transactional 을 두지 않습니다 (coupon 은 EntityGraph 로 함께 조회).
+     */
+    public List<UserCouponSnapshot> findCouponsByUserId(Integer userId, String status) {
+        List<UserCouponSnapshot> list = userCouponCache.get(userId, id ->
+            userCouponRepository.findByUser_IdOrderByIssuedAtDesc(id).stream()
+                .map(UserCouponSnapshot::from)
+                .toList()
+        );
+        LocalDateTime now = LocalDateTime.now();
+        Stream<UserCouponSnapshot> stream = list.stream();
         if ("AVAILABLE".equalsIgnoreCase(status)) {
-            stream = stream.filter(UserCoupon::isUsable);
+            stream = stream.filter(uc -> uc.isUsable(now));
         } else if ("USED".equalsIgnoreCase(status)) {
-            stream = stream.filter(uc -> uc.getUsedAt() != null);
+            stream = stream.filter(uc -> uc.usedAt() != null);
         } else if ("EXPIRED".equalsIgnoreCase(status)) {
-            stream = stream.filter(uc -> uc.getUsedAt() == null && uc.getExpiredAt() != null && uc.getExpiredAt().isBefore(java.time.LocalDateTime.now()));
+            stream = stream.filter(uc -> uc.isExpired(now));
         }
         return stream.toList();
     }
+
+    /** 쿠폰 사용/복구 후 호출. 트랜잭션 안이면 커밋 이후에도 한 번 더 무효화됩니다. */
+    public void evictCouponCache(Integer userId) {
+        userCouponCache.evict(userId);
+    }
 }
@@ -7,6 +7,8 @@ import org.springframework.transaction.annotation.Transactional;
 
 import lombok.RequiredArgsConstructor;
 
+import com.gdg.sprint.team1.cache.UserProfileCache;
+import com.gdg.sprint.team1.dto.auth.UserMeResponse;
 import com.gdg.sprint.team1.dto.my.UpdateMyInfoRequest;
 import com.gdg.sprint.team1.entity.User;
 import com.gdg.sprint.team1.exception.UserNotFoundException;
@@ -17,6 +19,7 @@ import com.gdg.sprint.team1.repository.UserRepository;
 public class UserService {
 
     private final UserRepository userRepository;
+    private final UserProfileCache userProfileCache;
 
     @Transactional(readOnly = true)
     public User findById(Integer userId) {
@@ -24,6 +27,11 @@ public class UserService {
             .orElseThrow(() -> new UserNotFoundException(userId));
     }
 
+    /** 내 정보 조회 (캐시). 주문 등 엔티티가 필요한 곳은 findById 를 사용합니다. */
+    public UserMeResponse findProfileById(Integer userId) {
+        return userProfileCache.get(userId, id -> UserMeResponse.from(findById(id)));
+    }
+
     @Transactional(readOnly = true)
     public Optional<User> findByEmail(String email) {
         return userRepository.findByEmail(email);
@@ -39,6 +47,12 @@ public class UserService {
         return userRepository.save(user);
     }
 
+    /** 로그인 시 다시 해시한 비밀번호 저장 (PasswordHasher 스레드에서 호출) */
+    @Transactional
+    public void replacePassword(Integer userId, String expected, String encodedPassword) {
+        userRepository.updatePasswordIfUnchanged(userId, expected, encodedPassword);
+    }
+
     @Transactional
     public User updateMyInfo(Integer userId, UpdateMyInfoRequest request) {
         if (request == null || !request.hasAnyField()) {
@@ -47,6 +61,7 @@ public class UserService {
 
         User user = findById(userId);
         user.updateProfile(request.name(), request.phone(), request.address());
+        userProfileCache.evict(userId);
         return user;
     }
 }
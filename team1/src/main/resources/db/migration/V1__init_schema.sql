@@ -41,7 +41,9 @@ CREATE TABLE products (
     version BIGINT NOT NULL DEFAULT 0,
     created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
     updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
-    INDEX idx_status (product_status)
+    INDEX idx_status (product_status),
+    -- 상품명/설명 검색용. 한글은 공백 단위 토큰화가 맞지 않으므로 ngram parser(기본 2-gram) 사용
+    FULLTEXT INDEX ft_name_description (name, description) WITH PARSER ngram
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
 
 -- CartItem 테이블
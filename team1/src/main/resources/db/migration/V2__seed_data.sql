@@ -1,8 +1,6 @@
 -- 초기 Mock 데이터
--- 주의: MySQL 공식 이미지는 파일명을 알파벳 순으로 실행하므로
--- 테이블 생성 스키마(schema.sql) 이후에 실행되도록 z- 접두어를 사용했습니다.
+-- 접속 URL 의 스키마에 적용되므로 use 문은 두지 않습니다.
 SET NAMES utf8mb4;
-use team1;
 
 -- 사용자 3명 (목업, 평문 비밀번호. 회원가입 사용자만 BCrypt)
 INSERT INTO users (id, email, password, name, phone, address, role)
@@ -0,0 +1,35 @@
+-- 목록/조회 쿼리의 WHERE + ORDER BY 순서에 맞춘 복합 인덱스
+-- InnoDB 보조 인덱스는 끝에 PK 를 포함하지만, keyset 정렬 (컬럼, id) 과의 대응을 드러내기 위해 id 를 명시합니다.
+
+-- products: ProductSpecs.status + 정렬(createdAt | price | name, id)
+--   status = ? 로 좁힌 뒤 인덱스 순서 그대로 읽으므로 filesort 없이 LIMIT 만큼만 읽습니다.
+--   minPrice/maxPrice 는 price 정렬일 때 같은 인덱스의 범위 조건이 되고, 그 외 정렬과 stock > 0 은 읽은 행에서 걸러냅니다.
+--   idx_status 는 아래 인덱스들의 접두어이므로 제거합니다.
+ALTER TABLE products
+    ADD INDEX idx_status_created (product_status, created_at, id),
+    ADD INDEX idx_status_price (product_status, price, id),
+    ADD INDEX idx_status_name (product_status, name, id),
+    -- status 필터 없는 목록(관리자, 상태 미지정)
+    ADD INDEX idx_created (created_at, id),
+    ADD INDEX idx_price (price, id),
+    ADD INDEX idx_name (name, id),
+    DROP INDEX idx_status;
+
+-- orders: OrderRepository.findIdSliceByUserId
+--   where user_id = ? [and order_status = ?] [and created_at >= ?] order by created_at desc, id desc
+--   기존 idx_user_created (user_id, created_at DESC) 는 암묵 PK(id ASC)와 방향이 섞여 id desc tie-breaker 에서 filesort 가 생기므로,
+--   모두 오름차순으로 두고 역방향 스캔(Backward index scan)으로 읽습니다.
+--   두 인덱스 모두 id 만 필요한 1단계 조회를 커버합니다.
+ALTER TABLE orders
+    ADD INDEX idx_user_created_id (user_id, created_at, id),
+    ADD INDEX idx_user_status_created_id (user_id, order_status, created_at, id),
+    DROP INDEX idx_user_created;
+
+-- user_coupons
+--   findByUser_IdAndUsedAtIsNullAndExpiredAtAfter: user_id = ? and used_at is null and expired_at > ?
+--   findByUser_IdOrderByIssuedAtDesc: user_id = ? order by issued_at desc
+--   user_id 외래 키는 unique_user_coupon (user_id, coupon_id) 이 계속 받칩니다.
+ALTER TABLE user_coupons
+    ADD INDEX idx_user_unused_expired (user_id, used_at, expired_at),
+    ADD INDEX idx_user_issued (user_id, issued_at),
+    DROP INDEX idx_user_expired;
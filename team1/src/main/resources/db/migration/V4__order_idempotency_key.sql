@@ -0,0 +1,6 @@
+-- 주문 생성 멱등성 키 (Idempotency-Key 헤더)
+--   노드 로컬 저장소(OrderIdempotencyService)에 없는 재시도(다른 노드, 만료 후)는 이 UNIQUE 제약으로 막고,
+--   충돌 시 기존 주문을 다시 돌려줍니다. 키 없이 생성된 주문은 NULL 이라 제약에 걸리지 않습니다.
+ALTER TABLE orders
+    ADD COLUMN idempotency_key VARCHAR(64) NULL AFTER cancel_reason,
+    ADD UNIQUE KEY uk_user_idempotency_key (user_id, idempotency_key);
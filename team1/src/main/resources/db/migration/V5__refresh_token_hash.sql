@@ -0,0 +1,13 @@
+-- refresh_tokens: 토큰 원문(VARCHAR(512), 앞 255자만 UNIQUE) 대신 SHA-256 digest(hex 64자)로 저장/조회
+--   고정 길이 ascii 컬럼 전체에 UNIQUE 를 걸어 조회와 회전(UPDATE ... WHERE token_hash = ?)이 인덱스 한 번으로 끝납니다.
+--   기존 행은 MySQL SHA2 로 변환하므로 발급된 토큰은 그대로 쓸 수 있습니다 (JWT 는 ASCII 라 UTF-8 바이트와 같음).
+ALTER TABLE refresh_tokens
+    ADD COLUMN token_hash CHAR(64) CHARACTER SET ascii COLLATE ascii_bin NULL AFTER user_id;
+
+UPDATE refresh_tokens SET token_hash = SHA2(token, 256);
+
+ALTER TABLE refresh_tokens
+    MODIFY COLUMN token_hash CHAR(64) CHARACTER SET ascii COLLATE ascii_bin NOT NULL,
+    ADD UNIQUE KEY uk_token_hash (token_hash),
+    DROP INDEX uk_token,
+    DROP COLUMN token;
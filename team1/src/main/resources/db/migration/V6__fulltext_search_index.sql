@@ -0,0 +1,15 @@
+-- products 상품명/설명 검색용 FULLTEXT(ngram) 인덱스 (ProductSpecs.search 의 MATCH ... AGAINST)
+--   V1 에도 있지만, 기존 init 스크립트로 만든 DB 는 V2 로 baseline 되어 V1 을 실행하지 않으므로 여기서 보장합니다.
+--   이미 있으면(V1 로 만든 DB, 수동으로 추가한 DB) 건너뜁니다.
+SET @ddl = (
+    SELECT IF(COUNT(*) = 0,
+              'ALTER TABLE products ADD FULLTEXT INDEX ft_name_description (name, description) WITH PARSER ngram',
+              'DO 0')
+    FROM information_schema.statistics
+    WHERE table_schema = DATABASE()
+      AND table_name = 'products'
+      AND index_name = 'ft_name_description'
+);
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
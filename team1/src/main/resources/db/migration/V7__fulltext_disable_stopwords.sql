@@ -0,0 +1,10 @@
+-- ft_name_description 을 불용어(stopword) 없이 다시 만듭니다.
+--   기본 불용어 목록에는 "a", "i" 등이 있고, ngram parser 는 불용어를 포함한 토큰을 버리므로
+--   "apple", "iphone", "pad" 같은 영문 키워드가 대부분의 2-gram 을 잃어 LIKE 로 찾던 행을 못 찾습니다.
+--   불용어 설정은 인덱스를 만들 때 인덱스에 고정되므로 이 세션에서 끄고 다시 만듭니다 (조회 시에도 같은 설정 사용).
+--   InnoDB FULLTEXT 인덱스 재생성은 테이블을 다시 쓰므로 상품이 많은 DB 는 점검 시간에 적용하세요.
+SET SESSION innodb_ft_enable_stopword = OFF;
+
+ALTER TABLE products DROP INDEX ft_name_description;
+
+ALTER TABLE products ADD FULLTEXT INDEX ft_name_description (name, description) WITH PARSER ngram;
@@ -0,0 +1,90 @@
+package com.gdg.sprint.team1.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import com.gdg.sprint.team1.config.OpenApiConfig;
+import com.gdg.sprint.team1.dto.product.ProductDetailDto;
+
+/**
+ * 내장 원격 캐시(InMemoryRemoteCache) 하나를 공유하는 두 노드로 2단계 캐시 동작을 확인합니다.
+ */
+class TwoLevelCacheTests {
+
+    private final ObjectMapper objectMapper = new OpenApiConfig().objectMapper();
+    private final AtomicInteger loads = new AtomicInteger();
+
+    private TwoLevelCache<Long, ProductDetailDto> nodeA;
+    private TwoLevelCache<Long, ProductDetailDto> nodeB;
+
+    @BeforeEach
+    void setUp() {
+        RemoteCache remote = new InMemoryRemoteCache(10_000);
+        nodeA = newNode(remote);
+        nodeB = newNode(remote);
+    }
+
+    @Test
+    void otherNodeReadsValueFromRemoteWithoutLoading() {
+        ProductDetailDto first = nodeA.get(1L, this::load);
+        ProductDetailDto second = nodeB.get(1L, this::load);
+
+        assertThat(second).isEqualTo(first);
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    void evictOnOneNodeInvalidatesLocalEntryOnOtherNode() {
+        nodeA.get(1L, this::load);
+        nodeB.get(1L, this::load);
+
+        nodeA.evict(1L);
+        ProductDetailDto reloaded = nodeB.get(1L, this::load);
+
+        assertThat(loads).hasValue(2);
+        assertThat(reloaded.stock()).isEqualTo(2);
+    }
+
+    @Test
+    void memoryRemoteExpiresEachEntryByItsOwnTtl() throws InterruptedException {
+        InMemoryRemoteCache remote = new InMemoryRemoteCache(10_000);
+        remote.put("short", "a", Duration.ofMillis(20));
+        remote.put("long", "b", Duration.ofMinutes(1));
+
+        Thread.sleep(50);
+
+        assertThat(remote.get("short")).isNull();
+        assertThat(remote.get("long")).isEqualTo("b");
+    }
+
+    private ProductDetailDto load(Long id) {
+        int stock = loads.incrementAndGet();
+        return new ProductDetailDto(id, "상품", "설명", new BigDecimal("1000.00"), stock, "ACTIVE", null,
+            Instant.parse("2025-01-01T00:00:00Z"), Instant.parse("2025-01-01T00:00:00Z"), (long) stock);
+    }
+
+    private TwoLevelCache<Long, ProductDetailDto> newNode(RemoteCache remote) {
+        return new TwoLevelCache<>(
+            "product.detail",
+            100,
+            Duration.ofMinutes(1),
+            remote,
+            Duration.ofMinutes(1),
+            objectMapper,
+            objectMapper.getTypeFactory().constructType(new TypeReference<ProductDetailDto>() {}),
+            new SimpleMeterRegistry()
+        );
+    }
+}
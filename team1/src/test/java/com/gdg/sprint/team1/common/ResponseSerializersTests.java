@@ -0,0 +1,83 @@
+package com.gdg.sprint.team1.common;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.PropertyNamingStrategies;
+import tools.jackson.databind.json.JsonMapper;
+import tools.jackson.dataformat.smile.SmileMapper;
+
+import com.gdg.sprint.team1.dto.cart.CartItemResponse;
+import com.gdg.sprint.team1.dto.order.OrderResponse;
+import com.gdg.sprint.team1.dto.product.ProductListDto;
+
+/**
+ * 직접 작성한 직렬화기가 기본 record 직렬화와 같은 결과를 내는지 확인합니다.
+ */
+class ResponseSerializersTests {
+
+    private final JsonMapper plain = JsonMapper.builder()
+        .propertyNamingStrategy(PropertyNamingStrategies.SNAKE_CASE)
+        .build();
+    private final JsonMapper withSerializers = plain.rebuild()
+        .addModule(ResponseSerializers.module())
+        .build();
+
+    @Test
+    void productListDtoMatchesDefaultSerialization() {
+        ProductListDto full = new ProductListDto(
+            1L, "상품 \"1\"", "설명", new BigDecimal("12000.00"), 3, "ACTIVE", "https://img/1.png",
+            Instant.parse("2025-01-01T00:00:00Z"), Instant.parse("2025-01-02T03:04:05.123Z"));
+        ProductListDto sparse = new ProductListDto(2L, "상품 2", null, BigDecimal.ZERO, null, "INACTIVE", null, null, null);
+
+        assertSameAsDefault(ApiResponse.success(List.of(full, sparse)));
+    }
+
+    @Test
+    void orderResponseMatchesDefaultSerialization() {
+        OrderResponse order = new OrderResponse(
+            101, "PENDING", new BigDecimal("28000.00"), BigDecimal.ZERO, new BigDecimal("3000.00"),
+            new BigDecimal("31000.00"), "서울특별시 강남구", LocalDateTime.of(2024, 2, 8, 11, 0), 2);
+
+        assertSameAsDefault(ApiResponse.success(List.of(order)));
+    }
+
+    @Test
+    void cartItemResponseMatchesDefaultSerialization() {
+        CartItemResponse item = new CartItemResponse(
+            10L, "상품", new BigDecimal("5000"), "ACTIVE", 2, new BigDecimal("10000"), true,
+            LocalDateTime.of(2025, 1, 1, 9, 30, 15), null);
+        CartItemResponse missing = new CartItemResponse(11L, null, BigDecimal.ZERO, null, 1, BigDecimal.ZERO, null, null, null);
+
+        assertSameAsDefault(ApiResponse.success(List.of(item, missing)));
+    }
+
+    @Test
+    void smileRoundTripsToSameTreeAsJson() {
+        SmileMapper smile = SmileMapper.builder()
+            .propertyNamingStrategy(PropertyNamingStrategies.SNAKE_CASE)
+            .addModule(ResponseSerializers.module())
+            .build();
+        List<ProductListDto> rows = List.of(
+            new ProductListDto(1L, "a", "b", BigDecimal.TEN, 1, "ACTIVE", null, Instant.EPOCH, Instant.EPOCH),
+            new ProductListDto(2L, "c", "d", BigDecimal.ONE, 2, "ACTIVE", null, Instant.EPOCH, Instant.EPOCH));
+        ApiResponse<List<ProductListDto>> response = ApiResponse.success(rows);
+
+        byte[] encoded = smile.writeValueAsBytes(response);
+        JsonNode decoded = smile.readTree(encoded);
+
+        assertThat(decoded).isEqualTo(withSerializers.readTree(withSerializers.writeValueAsString(response)));
+        assertThat(encoded.length).isLessThan(withSerializers.writeValueAsBytes(response).length);
+    }
+
+    private void assertSameAsDefault(Object value) {
+        assertThat(withSerializers.writeValueAsString(value)).isEqualTo(plain.writeValueAsString(value));
+    }
+}
@@ -0,0 +1,77 @@
+package com.gdg.sprint.team1.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import com.gdg.sprint.team1.dto.product.ProductDetailDto;
+import com.gdg.sprint.team1.service.ProductService;
+
+/**
+ * 상품 상세 조회의 ETag / If-None-Match(304) 와 캐시 헤더를 확인합니다.
+ */
+class ProductControllerConditionalGetTests {
+
+    private final ProductService productService = mock(ProductService.class);
+    private final MockMvc mockMvc = MockMvcBuilders.standaloneSetup(new ProductController(productService, 0, 10)).build();
+
+    @Test
+    void sameVersionIsAnsweredWithNotModified() throws Exception {
+        when(productService.getProductById(1L)).thenReturn(product(3L));
+
+        String etag = mockMvc.perform(get("/api/v1/products/1"))
+            .andExpect(status().isOk())
+            .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        MvcResult revalidated = mockMvc.perform(get("/api/v1/products/1").header(HttpHeaders.IF_NONE_MATCH, etag))
+            .andExpect(status().isNotModified())
+            .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "max-age=0, public, s-maxage=10"))
+            .andExpect(header().string(HttpHeaders.VARY, "Accept"))
+            .andReturn();
+
+        assertThat(etag).startsWith("\"");
+        assertThat(revalidated.getResponse().getContentLength()).isZero();
+    }
+
+    @Test
+    void changedVersionReturnsNewBody() throws Exception {
+        when(productService.getProductById(1L)).thenReturn(product(3L));
+        String etag = mockMvc.perform(get("/api/v1/products/1"))
+            .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        when(productService.getProductById(1L)).thenReturn(product(4L));
+        String changed = mockMvc.perform(get("/api/v1/products/1").header(HttpHeaders.IF_NONE_MATCH, etag))
+            .andExpect(status().isOk())
+            .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        assertThat(changed).isNotEqualTo(etag);
+    }
+
+    @Test
+    void etagDependsOnAcceptHeader() throws Exception {
+        when(productService.getProductById(1L)).thenReturn(product(3L));
+
+        String json = mockMvc.perform(get("/api/v1/products/1").header(HttpHeaders.ACCEPT, "application/json"))
+            .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        String any = mockMvc.perform(get("/api/v1/products/1").header(HttpHeaders.ACCEPT, "*/*"))
+            .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        assertThat(any).isNotEqualTo(json);
+    }
+
+    private static ProductDetailDto product(Long version) {
+        Instant now = Instant.parse("2025-01-01T00:00:00Z");
+        return new ProductDetailDto(1L, "상품", "설명", new BigDecimal("1000.00"), 5, "ACTIVE", null, now, now, version);
+    }
+}
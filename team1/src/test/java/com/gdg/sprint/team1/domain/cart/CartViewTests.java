@@ -0,0 +1,95 @@
+package com.gdg.sprint.team1.domain.cart;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.gdg.sprint.team1.dto.cart.CartSummary;
+
+/**
+ * 항목 단위 갱신(withLine/withoutLine/markStale)이 전체를 다시 계산한 결과와 같은 합계/배송비를 내는지 확인합니다.
+ */
+class CartViewTests {
+
+    private static final Integer USER_ID = 1;
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 1, 1, 0, 0);
+
+    @Test
+    void withLineAddsNewLineToTotals() {
+        CartView view = CartView.of(USER_ID, List.of(line(1L, "10000", 1)))
+            .withLine(line(2L, "5000", 2));
+
+        assertSummary(view, 2, 3, "20000", "3000");
+        assertSameAsRebuilt(view);
+    }
+
+    @Test
+    void withLineReplacesPreviousSubtotal() {
+        CartView view = CartView.of(USER_ID, List.of(line(1L, "10000", 1), line(2L, "5000", 2)))
+            .withLine(line(1L, "10000", 2));
+
+        // 20000 + 10000 = 30000 부터 배송비 무료
+        assertSummary(view, 2, 4, "30000", "0");
+        assertSameAsRebuilt(view);
+    }
+
+    @Test
+    void withoutLineSubtractsAndIgnoresMissingLine() {
+        CartView view = CartView.of(USER_ID, List.of(line(1L, "10000", 3), line(2L, "5000", 1)));
+
+        CartView removed = view.withoutLine(1L);
+
+        assertSummary(removed, 1, 1, "5000", "3000");
+        assertSameAsRebuilt(removed);
+        assertThat(removed.withoutLine(99L)).isSameAs(removed);
+        assertSummary(removed.withoutLine(2L), 0, 0, "0", "0");
+    }
+
+    @Test
+    void markStaleKeepsTotalsUntilLineIsRecalculated() {
+        CartView view = CartView.of(USER_ID, List.of(line(1L, "10000", 1), line(2L, "5000", 2)));
+
+        CartView stale = view.markStale(2L);
+
+        assertThat(stale.staleProductIds()).containsExactly(2L);
+        assertThat(stale.response().summary()).isEqualTo(view.response().summary());
+        assertThat(stale.markStale(99L)).isSameAs(stale);
+
+        CartView refreshed = stale.withLine(line(2L, "7000", 2));
+        assertThat(refreshed.hasStaleLines()).isFalse();
+        assertSummary(refreshed, 2, 3, "24000", "3000");
+        assertSameAsRebuilt(refreshed);
+    }
+
+    @Test
+    void versionChangesWithLineValues() {
+        CartView view = CartView.of(USER_ID, List.of(line(1L, "10000", 1)));
+
+        assertThat(view.withLine(line(1L, "10000", 1)).version()).isEqualTo(view.version());
+        assertThat(view.withLine(line(1L, "10000", 2)).version()).isNotEqualTo(view.version());
+        assertThat(view.withLine(line(1L, "9000", 1)).version()).isNotEqualTo(view.version());
+    }
+
+    private static CartView.Line line(Long productId, String price, int quantity) {
+        return CartView.Line.of(productId, "상품" + productId, new BigDecimal(price), "ACTIVE", 10, quantity, NOW, NOW);
+    }
+
+    private static void assertSummary(CartView view, int items, int quantity, String total, String deliveryFee) {
+        CartSummary summary = view.response().summary();
+        assertThat(summary.totalItems()).isEqualTo(items);
+        assertThat(summary.totalQuantity()).isEqualTo(quantity);
+        assertThat(summary.totalProductPrice()).isEqualByComparingTo(total);
+        assertThat(summary.deliveryFee()).isEqualByComparingTo(deliveryFee);
+        assertThat(summary.finalPrice()).isEqualByComparingTo(new BigDecimal(total).add(new BigDecimal(deliveryFee)));
+    }
+
+    private static void assertSameAsRebuilt(CartView view) {
+        CartView rebuilt = CartView.of(USER_ID, view.productIds().stream().map(view::line).toList());
+        assertThat(view.response()).isEqualTo(rebuilt.response());
+        assertThat(view.version()).isEqualTo(rebuilt.version());
+    }
+}
@@ -0,0 +1,160 @@
+package com.gdg.sprint.team1.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.mysql.MySQLContainer;
+
+/**
+ * 마이그레이션(V1~) 적용 후 목록 쿼리가 의도한 복합 인덱스를 타는지 EXPLAIN 으로 확인합니다.
+ * SQL 은 ProductSpecs / OrderRepository 가 만드는 쿼리와 같은 모양으로 작성합니다.
+ * Docker 가 없는 환경에서는 건너뜁니다.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class IndexUsageExplainTests {
+
+    @Container
+    static final MySQLContainer mysql = new MySQLContainer("mysql:8.0")
+        .withDatabaseName("team1")
+        .withCommand("--character-set-server=utf8mb4", "--collation-server=utf8mb4_unicode_ci");
+
+    @BeforeAll
+    static void migrateAndFill() throws SQLException {
+        Flyway.configure()
+            .dataSource(mysql.getJdbcUrl(), mysql.getUsername(), mysql.getPassword())
+            .load()
+            .migrate();
+
+        // 옵티마이저가 전체 스캔을 고르지 않도록 통계가 의미 있는 정도의 행을 채움
+        try (Connection conn = connect(); Statement st = conn.createStatement()) {
+            st.execute("SET SESSION cte_max_recursion_depth = 10000");
+            st.execute("""
+                INSERT INTO products (name, description, price, stock, product_status, created_at)
+                WITH RECURSIVE seq(n) AS (SELECT 1 UNION ALL SELECT n + 1 FROM seq WHERE n < 5000)
+                SELECT CONCAT('상품 ', n), CONCAT('설명 ', n), 1000 + (n * 37) % 90000, n % 7,
+                       IF(n % 10 = 0, 'INACTIVE', 'ACTIVE'), TIMESTAMP('2025-01-01') + INTERVAL n MINUTE
+                FROM seq
+                """);
+            st.execute("""
+                INSERT INTO orders (user_id, total_product_price, final_price, recipient_name, recipient_phone,
+                                    delivery_address, order_status, created_at)
+                WITH RECURSIVE seq(n) AS (SELECT 1 UNION ALL SELECT n + 1 FROM seq WHERE n < 6000)
+                SELECT 1 + n % 3, 10000, 10000, '수령인', '010-0000-0000', '주소',
+                       ELT(1 + n % 5, 'PENDING', 'CONFIRMED', 'SHIPPING', 'DELIVERED', 'CANCELLED'),
+                       TIMESTAMP('2025-01-01') + INTERVAL n MINUTE
+                FROM seq
+                """);
+            st.execute("ANALYZE TABLE products, orders");
+        }
+    }
+
+    @Test
+    void productListByStatusSortedByCreatedAt() throws SQLException {
+        Plan plan = explain("""
+            select p.id from products p
+            where p.product_status = ? and p.stock > 0
+            order by p.created_at desc, p.id desc limit 21
+            """, "ACTIVE");
+
+        assertThat(plan.key()).isEqualTo("idx_status_created");
+        assertThat(plan.extra()).doesNotContain("filesort");
+    }
+
+    @Test
+    void productListByStatusAndPriceRangeSortedByPrice() throws SQLException {
+        Plan plan = explain("""
+            select p.id from products p
+            where p.product_status = ? and p.price >= ? and p.price <= ?
+            order by p.price asc, p.id asc limit 21
+            """, "ACTIVE", 20000, 30000);
+
+        assertThat(plan.key()).isEqualTo("idx_status_price");
+        assertThat(plan.extra()).doesNotContain("filesort");
+    }
+
+    @Test
+    void productKeysetByStatusSortedByName() throws SQLException {
+        Plan plan = explain("""
+            select p.id from products p
+            where p.product_status = ? and (p.name > ? or (p.name = ? and p.id > ?))
+            order by p.name asc, p.id asc limit 21
+            """, "ACTIVE", "상품 2500", "상품 2500", 2500);
+
+        assertThat(plan.key()).isEqualTo("idx_status_name");
+        assertThat(plan.extra()).doesNotContain("filesort");
+    }
+
+    @Test
+    void productListWithoutStatusSortedByCreatedAt() throws SQLException {
+        Plan plan = explain("""
+            select p.id from products p
+            order by p.created_at desc, p.id desc limit 21
+            """);
+
+        assertThat(plan.key()).isEqualTo("idx_created");
+        assertThat(plan.extra()).doesNotContain("filesort");
+    }
+
+    @Test
+    void orderIdSliceByUser() throws SQLException {
+        Plan plan = explain(ORDER_ID_SLICE, 1, null, null, null, null);
+
+        assertThat(plan.key()).isEqualTo("idx_user_created_id");
+        assertThat(plan.extra()).contains("Using index").doesNotContain("filesort");
+    }
+
+    @Test
+    void orderIdSliceByUserAndStatus() throws SQLException {
+        Plan plan = explain(ORDER_ID_SLICE, 1, "DELIVERED", "DELIVERED", null, null);
+
+        assertThat(plan.key()).isEqualTo("idx_user_status_created_id");
+        assertThat(plan.extra()).contains("Using index").doesNotContain("filesort");
+    }
+
+    @Test
+    void orderIdSliceByUserAndFromDate() throws SQLException {
+        Plan plan = explain(ORDER_ID_SLICE, 1, null, null, "2025-01-03 00:00:00", "2025-01-03 00:00:00");
+
+        assertThat(plan.key()).isEqualTo("idx_user_created_id");
+        assertThat(plan.extra()).doesNotContain("filesort");
+    }
+
+    /** OrderRepository.findIdSliceByUserId 와 같은 모양. Connector/J 는 파라미터를 리터럴로 치환해 보내므로 "? is null" 이 상수로 접힙니다. */
+    private static final String ORDER_ID_SLICE = """
+        select o.id from orders o
+        where o.user_id = ?
+          and (? is null or o.order_status = ?)
+          and (? is null or o.created_at >= ?)
+        order by o.created_at desc, o.id desc limit 21
+        """;
+
+    private record Plan(String key, String extra) {}
+
+    private static Plan explain(String sql, Object... params) throws SQLException {
+        try (Connection conn = connect(); PreparedStatement ps = conn.prepareStatement("EXPLAIN " + sql)) {
+            for (int i = 0; i < params.length; i++) {
+                ps.setObject(i + 1, params[i]);
+            }
+            try (ResultSet rs = ps.executeQuery()) {
+                assertThat(rs.next()).isTrue();
+                String extra = rs.getString("Extra");
+                return new Plan(rs.getString("key"), extra == null ? "" : extra);
+            }
+        }
+    }
+
+    private static Connection connect() throws SQLException {
+        return DriverManager.getConnection(mysql.getJdbcUrl(), mysql.getUsername(), mysql.getPassword());
+    }
+}
@@ -0,0 +1,101 @@
+package com.gdg.sprint.team1.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.mysql.MySQLContainer;
+
+/**
+ * 마이그레이션(V7, 불용어 없는 ngram 인덱스) 적용 후 FULLTEXT 검색이 영문/혼합 키워드에서도
+ * LIKE '%키워드%' 와 같은 결과를 내는지 확인합니다.
+ * SQL 은 ProductSpecs.search 가 만드는 조건(MATCH 구문 검색 + LIKE 재확인)과 같은 모양으로 작성합니다.
+ * Docker 가 없는 환경에서는 건너뜁니다.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class ProductSearchFullTextTests {
+
+    private static final String MATCH = "match(name, description) against (? in boolean mode) > 0";
+    private static final String LIKE = "(name like ? or description like ?)";
+
+    @Container
+    static final MySQLContainer mysql = new MySQLContainer("mysql:8.0")
+        .withDatabaseName("team1")
+        .withCommand("--character-set-server=utf8mb4", "--collation-server=utf8mb4_unicode_ci");
+
+    private static JdbcTemplate jdbcTemplate;
+
+    @BeforeAll
+    static void migrateAndFill() {
+        Flyway.configure()
+            .dataSource(mysql.getJdbcUrl(), mysql.getUsername(), mysql.getPassword())
+            .load()
+            .migrate();
+        jdbcTemplate = new JdbcTemplate(
+            new DriverManagerDataSource(mysql.getJdbcUrl(), mysql.getUsername(), mysql.getPassword()));
+
+        insert("Apple iPhone 15 케이스", "정품 호환 실리콘 케이스");
+        insert("iPad 파우치", "태블릿 보관용");
+        insert("키보드 받침", "손목 보호 mouse pad 포함");
+        insert("Pineapple 쿠션", "과일 모양 쿠션");
+        insert("향초", "pine apple 향");
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"apple", "iphone", "pad", "iPhone 15", "Pineapple", "케이스"})
+    void fullTextSearchReturnsSameRowsAsLike(String keyword) {
+        List<Long> like = ids("select id from products where " + LIKE + " order by id",
+            pattern(keyword), pattern(keyword));
+        List<Long> fullText = ids("select id from products where " + MATCH + " and " + LIKE + " order by id",
+            phrase(keyword), pattern(keyword), pattern(keyword));
+
+        assertThat(like).isNotEmpty();
+        assertThat(fullText).isEqualTo(like);
+    }
+
+    @Test
+    void indexAloneFindsEnglishKeywordsContainingStopwordLetters() {
+        // 기본 불용어("a", "i")가 켜져 있으면 이 글자를 포함한 2-gram 이 버려져 MATCH 만으로는 찾지 못함
+        assertThat(ids("select id from products where " + MATCH, phrase("apple")))
+            .containsAll(ids("select id from products where name like '%apple%'"));
+        assertThat(ids("select id from products where " + MATCH, phrase("iphone")))
+            .containsAll(ids("select id from products where name like '%iphone%'"));
+    }
+
+    @Test
+    void keywordWithoutSpaceDoesNotMatchSpacedTextAfterLikeRecheck() {
+        // ngram 구문 검색은 공백을 무시하므로 "pine apple" 도 후보가 될 수 있지만 LIKE 재확인에서 빠짐
+        List<Long> fullText = ids("select id from products where " + MATCH + " and " + LIKE,
+            phrase("pineapple"), pattern("pineapple"), pattern("pineapple"));
+
+        assertThat(fullText).containsExactlyElementsOf(ids("select id from products where name = 'Pineapple 쿠션'"));
+    }
+
+    private static void insert(String name, String description) {
+        jdbcTemplate.update(
+            "insert into products (name, description, price, stock, product_status) values (?, ?, 10000, 10, 'ACTIVE')",
+            name, description);
+    }
+
+    private static List<Long> ids(String sql, Object... args) {
+        return jdbcTemplate.queryForList(sql, Long.class, args);
+    }
+
+    // ProductSpecs.toFullTextPhrase 와 같은 BOOLEAN MODE 구문
+    private static String phrase(String keyword) {
+        return "\"" + keyword.trim() + "\"";
+    }
+
+    private static String pattern(String keyword) {
+        return "%" + keyword.trim() + "%";
+    }
+}
@@ -0,0 +1,105 @@
+package com.gdg.sprint.team1.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.mysql.MySQLContainer;
+
+/**
+ * 재고 차감/복구 배치가 실제 MySQL(rewriteBatchedStatements=true, 운영과 같은 URL 옵션)에서
+ * 재고를 넘는 항목만 실패로 돌려주는지 확인합니다. 상품은 V2 목업 데이터를 사용하며 테스트마다 다른 상품을 씁니다.
+ * Docker 가 없는 환경에서는 건너뜁니다.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class ProductStockRepositoryTests {
+
+    @Container
+    static final MySQLContainer mysql = new MySQLContainer("mysql:8.0")
+        .withDatabaseName("team1")
+        .withCommand("--character-set-server=utf8mb4", "--collation-server=utf8mb4_unicode_ci");
+
+    private static JdbcTemplate jdbcTemplate;
+    private static TransactionTemplate transactionTemplate;
+    private static ProductStockRepository repository;
+
+    @BeforeAll
+    static void migrate() {
+        Flyway.configure()
+            .dataSource(mysql.getJdbcUrl(), mysql.getUsername(), mysql.getPassword())
+            .load()
+            .migrate();
+        String url = mysql.getJdbcUrl() + (mysql.getJdbcUrl().contains("?") ? "&" : "?")
+            + "rewriteBatchedStatements=true";
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(url, mysql.getUsername(), mysql.getPassword());
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        repository = new ProductStockRepository(jdbcTemplate);
+    }
+
+    @Test
+    void deductBeyondStockInBatchFailsOnlyThatProductAndRollsBack() {
+        // 상품 1(재고 100), 5(재고 30), 11(재고 200)
+        TreeMap<Long, Integer> quantities = new TreeMap<>();
+        quantities.put(1L, 10);
+        quantities.put(5L, 31);
+        quantities.put(11L, 5);
+
+        List<Long> failed = transactionTemplate.execute(status -> {
+            List<Long> notUpdated = repository.deductAll(quantities);
+            assertThat(stock(1L)).isEqualTo(90);
+            assertThat(stock(5L)).isEqualTo(30);
+            // 주문 서비스는 실패가 있으면 예외로 롤백
+            status.setRollbackOnly();
+            return notUpdated;
+        });
+
+        assertThat(failed).containsExactly(5L);
+        assertThat(stock(1L)).isEqualTo(100);
+        assertThat(stock(11L)).isEqualTo(200);
+    }
+
+    @Test
+    void deductToZeroMarksSoldOutAndBumpsVersion() {
+        // 상품 10(재고 25)
+        long version = jdbcTemplate.queryForObject("select version from products where id = 10", Long.class);
+
+        List<Long> failed = repository.deductAll(new TreeMap<>(Map.of(10L, 25)));
+
+        assertThat(failed).isEmpty();
+        assertThat(stock(10L)).isZero();
+        assertThat(jdbcTemplate.queryForObject("select product_status from products where id = 10", String.class))
+            .isEqualTo("SOLD_OUT");
+        assertThat(jdbcTemplate.queryForObject("select version from products where id = 10", Long.class))
+            .isEqualTo(version + 1);
+
+        assertThat(repository.restoreAll(new TreeMap<>(Map.of(10L, 25)))).isEmpty();
+        assertThat(jdbcTemplate.queryForObject("select product_status from products where id = 10", String.class))
+            .isEqualTo("ACTIVE");
+    }
+
+    @Test
+    void missingProductIsReportedAsNotUpdated() {
+        TreeMap<Long, Integer> quantities = new TreeMap<>();
+        quantities.put(9L, 1);
+        quantities.put(9999L, 1);
+
+        assertThat(repository.restoreAll(quantities)).containsExactly(9999L);
+        assertThat(stock(9L)).isEqualTo(31);
+    }
+
+    private static int stock(Long productId) {
+        return jdbcTemplate.queryForObject("select stock from products where id = ?", Integer.class, productId);
+    }
+}
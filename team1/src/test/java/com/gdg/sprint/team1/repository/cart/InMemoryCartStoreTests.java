@@ -0,0 +1,168 @@
+package com.gdg.sprint.team1.repository.cart;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.mysql.MySQLContainer;
+
+import com.gdg.sprint.team1.domain.cart.CartItem;
+
+/**
+ * 메모리 장바구니의 변경 병합, 반영 실패 처리, 주문 롤백 시 복원을 실제 MySQL 로 확인합니다.
+ * 사용자/상품은 V2 목업 데이터(사용자 1, 상품 1~12)를 사용합니다. Docker 가 없는 환경에서는 건너뜁니다.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class InMemoryCartStoreTests {
+
+    private static final int USER_ID = 1;
+    private static final long MISSING_PRODUCT_ID = 9999L;
+
+    @Container
+    static final MySQLContainer mysql = new MySQLContainer("mysql:8.0")
+        .withDatabaseName("team1")
+        .withCommand("--character-set-server=utf8mb4", "--collation-server=utf8mb4_unicode_ci");
+
+    private static JdbcTemplate jdbcTemplate;
+    private static DataSourceTransactionManager transactionManager;
+
+    private InMemoryCartStore store;
+
+    @BeforeAll
+    static void migrate() {
+        Flyway.configure()
+            .dataSource(mysql.getJdbcUrl(), mysql.getUsername(), mysql.getPassword())
+            .load()
+            .migrate();
+        DriverManagerDataSource dataSource =
+            new DriverManagerDataSource(mysql.getJdbcUrl(), mysql.getUsername(), mysql.getPassword());
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        transactionManager = new DataSourceTransactionManager(dataSource);
+    }
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("delete from cart_items");
+        store = new InMemoryCartStore(jdbcTemplate, transactionManager, 600);
+    }
+
+    @Test
+    void repeatedChangesAreWrittenOnceWithLastValue() {
+        store.add(USER_ID, 2L, 1);
+        store.add(USER_ID, 2L, 2);
+        store.updateQuantity(USER_ID, 2L, 5);
+        store.add(USER_ID, 3L, 1);
+        store.remove(USER_ID, 3L);
+
+        assertThat(store.find(USER_ID, 2L)).map(CartItem::getQuantity).hasValue(5);
+        assertThat(storedQuantities()).isEmpty();
+
+        store.flush(USER_ID);
+
+        assertThat(storedQuantities()).containsExactly(Map.entry(2L, 5));
+    }
+
+    @Test
+    void removalOfStoredRowIsWrittenAsDelete() {
+        store.add(USER_ID, 2L, 1);
+        store.add(USER_ID, 4L, 1);
+        store.flush(USER_ID);
+
+        store.remove(USER_ID, 4L);
+        store.flush(USER_ID);
+
+        assertThat(storedQuantities()).containsOnlyKeys(2L);
+    }
+
+    @Test
+    void rowFailingReferenceCheckIsDroppedAndOthersAreWritten() {
+        store.add(USER_ID, 2L, 3);
+        store.add(USER_ID, MISSING_PRODUCT_ID, 1);
+
+        store.flush(USER_ID);
+
+        assertThat(storedQuantities()).containsExactly(Map.entry(2L, 3));
+        assertThat(store.find(USER_ID, MISSING_PRODUCT_ID)).isEmpty();
+        assertThat(store.find(USER_ID, 2L)).isPresent();
+
+        // 이후 변경은 평소대로 반영
+        store.updateQuantity(USER_ID, 2L, 4);
+        store.flush(USER_ID);
+        assertThat(storedQuantities()).containsExactly(Map.entry(2L, 4));
+    }
+
+    @Test
+    void rolledBackOrderRestoresRemovedLinesWithPendingChanges() {
+        store.add(USER_ID, 2L, 1);
+        store.flush(USER_ID);
+        store.add(USER_ID, 3L, 4);
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            store.removeOrdered(USER_ID, List.of(2L, 3L));
+            assertThat(store.findAll(USER_ID)).isEmpty();
+            status.setRollbackOnly();
+        });
+
+        assertThat(store.find(USER_ID, 2L)).map(CartItem::getQuantity).hasValue(1);
+        assertThat(store.find(USER_ID, 3L)).map(CartItem::getQuantity).hasValue(4);
+        assertThat(storedQuantities()).containsExactly(Map.entry(2L, 1));
+
+        // 반영 전이던 항목은 다시 반영 대기 상태
+        store.flush(USER_ID);
+        assertThat(storedQuantities()).containsOnly(Map.entry(2L, 1), Map.entry(3L, 4));
+    }
+
+    @Test
+    void committedOrderRemovesRowsAndTheyAreNotWrittenBack() {
+        store.add(USER_ID, 2L, 1);
+        store.flush(USER_ID);
+        store.updateQuantity(USER_ID, 2L, 2);
+        store.add(USER_ID, 5L, 1);
+
+        new TransactionTemplate(transactionManager)
+            .executeWithoutResult(status -> store.removeOrdered(USER_ID, List.of(2L)));
+        store.flush(USER_ID);
+
+        assertThat(store.find(USER_ID, 2L)).isEmpty();
+        assertThat(storedQuantities()).containsExactly(Map.entry(5L, 1));
+    }
+
+    @Test
+    void newInstanceLoadsWrittenCart() {
+        store.add(USER_ID, 2L, 2);
+        store.add(USER_ID, 7L, 1);
+        store.flush(USER_ID);
+
+        InMemoryCartStore other = new InMemoryCartStore(jdbcTemplate, transactionManager, 600);
+
+        assertThat(other.findAll(USER_ID))
+            .extracting(item -> item.getId().getProductId(), CartItem::getQuantity)
+            .containsExactly(
+                tuple(2L, 2),
+                tuple(7L, 1)
+            );
+    }
+
+    private static Map<Long, Integer> storedQuantities() {
+        return jdbcTemplate.queryForList(
+                "select product_id, quantity from cart_items where user_id = ?", USER_ID)
+            .stream()
+            .collect(Collectors.toMap(
+                row -> ((Number) row.get("product_id")).longValue(),
+                row -> ((Number) row.get("quantity")).intValue()
+            ));
+    }
+}
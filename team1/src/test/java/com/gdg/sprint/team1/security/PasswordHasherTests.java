@@ -0,0 +1,78 @@
+package com.gdg.sprint.team1.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import com.gdg.sprint.team1.exception.ServiceBusyException;
+
+class PasswordHasherTests {
+
+    @Test
+    void encodesAndVerifiesOnHashThreads() {
+        PasswordHasher hasher = newHasher(new BCryptPasswordEncoder(4), 4, 1, 10);
+
+        String encoded = hasher.encode("password1!");
+
+        assertThat(hasher.matches("password1!", encoded)).isTrue();
+        assertThat(hasher.matches("wrong", encoded)).isFalse();
+        hasher.shutdown();
+    }
+
+    @Test
+    void needsRehashWhenCostDiffersOrPlainText() {
+        PasswordHasher hasher = newHasher(new BCryptPasswordEncoder(4), 4, 1, 10);
+
+        assertThat(hasher.needsRehash(new BCryptPasswordEncoder(4).encode("pw"))).isFalse();
+        assertThat(hasher.needsRehash(new BCryptPasswordEncoder(5).encode("pw"))).isTrue();
+        assertThat(hasher.needsRehash("plain-text-seed")).isTrue();
+        hasher.shutdown();
+    }
+
+    @Test
+    void rejectsImmediatelyWhenQueueIsFull() throws InterruptedException {
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch started = new CountDownLatch(1);
+        PasswordEncoder blocking = new BCryptPasswordEncoder(4) {
+            @Override
+            public String encode(CharSequence rawPassword) {
+                started.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return super.encode(rawPassword);
+            }
+        };
+        // 스레드 1개 + 대기열 1칸
+        PasswordHasher hasher = newHasher(blocking, 4, 1, 1);
+        ExecutorService callers = Executors.newFixedThreadPool(2);
+        try {
+            callers.submit(() -> hasher.encode("running"));
+            assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+            callers.submit(() -> hasher.encode("queued"));
+            Thread.sleep(100);
+
+            assertThatThrownBy(() -> hasher.encode("rejected")).isInstanceOf(ServiceBusyException.class);
+        } finally {
+            release.countDown();
+            callers.shutdown();
+            hasher.shutdown();
+        }
+    }
+
+    private static PasswordHasher newHasher(PasswordEncoder encoder, int strength, int threads, int queueCapacity) {
+        return new PasswordHasher(encoder, new SimpleMeterRegistry(), strength, threads, queueCapacity, 5000);
+    }
+}
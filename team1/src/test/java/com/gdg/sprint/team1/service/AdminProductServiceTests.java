@@ -0,0 +1,56 @@
+package com.gdg.sprint.team1.service;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.gdg.sprint.team1.cache.ProductDetailCache;
+import com.gdg.sprint.team1.dto.admin.UpdateProductRequest;
+import com.gdg.sprint.team1.exception.ProductNotFoundException;
+import com.gdg.sprint.team1.repository.ProductRepository;
+
+/**
+ * 상품 수정 시 이미지 업로드가 DB 조회보다 먼저 실행되는지(업로드 동안 커넥션을 잡지 않음),
+ * 없는 상품이면 올린 이미지를 삭제 대기열로 보내는지 확인합니다.
+ */
+class AdminProductServiceTests {
+
+    private final ProductRepository productRepository = mock(ProductRepository.class);
+    private final S3Service s3Service = mock(S3Service.class);
+    private final AdminProductService service = new AdminProductService(
+        productRepository,
+        s3Service,
+        mock(ProductDetailCache.class),
+        new TransactionTemplate(mock(PlatformTransactionManager.class))
+    );
+
+    @Test
+    void uploadRunsBeforeAnyQueryAndMissingProductQueuesUploadForDeletion() {
+        MockMultipartFile image = new MockMultipartFile("image", "a.png", "image/png", new byte[] {1, 2, 3});
+        when(s3Service.uploadFile(image)).thenReturn("https://bucket/a.png");
+        when(productRepository.findById(1L)).thenReturn(Optional.empty());
+
+        UpdateProductRequest request = new UpdateProductRequest("상품", "설명", new BigDecimal("1000"), 5);
+        assertThatThrownBy(() -> service.updateProduct(1L, request, image))
+            .isInstanceOf(ProductNotFoundException.class);
+
+        InOrder order = inOrder(s3Service, productRepository);
+        order.verify(s3Service).uploadFile(image);
+        order.verify(productRepository).findById(1L);
+        order.verify(s3Service).deleteLater("https://bucket/a.png");
+        verify(productRepository, never()).existsById(any());
+    }
+}
@@ -0,0 +1,166 @@
+package com.gdg.sprint.team1.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadResponse;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadResponse;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadResponse;
+import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
+import software.amazon.awssdk.services.s3.model.DeleteObjectResponse;
+import software.amazon.awssdk.services.s3.model.NoSuchUploadException;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.PutObjectResponse;
+import software.amazon.awssdk.services.s3.model.UploadPartRequest;
+import software.amazon.awssdk.services.s3.model.UploadPartResponse;
+
+/**
+ * 테스트용 S3Client. 객체를 root/버킷/키 파일로 저장합니다.
+ * S3Service 가 쓰는 put / 멀티파트 / delete 만 구현하고, 나머지는 S3Client 기본 동작(UnsupportedOperationException)입니다.
+ */
+class LocalFileS3Client implements S3Client {
+
+    private final Path root;
+    // uploadId → 파트 파일 디렉터리
+    private final Map<String, Path> uploads = new ConcurrentHashMap<>();
+    private final AtomicInteger completedMultipartUploads = new AtomicInteger();
+
+    LocalFileS3Client(Path root) {
+        this.root = root;
+    }
+
+    Path objectPath(String bucket, String key) {
+        return root.resolve(bucket).resolve(key);
+    }
+
+    int completedMultipartUploads() {
+        return completedMultipartUploads.get();
+    }
+
+    int pendingMultipartUploads() {
+        return uploads.size();
+    }
+
+    @Override
+    public PutObjectResponse putObject(PutObjectRequest request, RequestBody body) {
+        write(objectPath(request.bucket(), request.key()), body);
+        return PutObjectResponse.builder().build();
+    }
+
+    @Override
+    public CreateMultipartUploadResponse createMultipartUpload(CreateMultipartUploadRequest request) {
+        String uploadId = UUID.randomUUID().toString();
+        try {
+            uploads.put(uploadId, Files.createDirectories(root.resolve(".uploads").resolve(uploadId)));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return CreateMultipartUploadResponse.builder()
+            .bucket(request.bucket())
+            .key(request.key())
+            .uploadId(uploadId)
+            .build();
+    }
+
+    @Override
+    public UploadPartResponse uploadPart(UploadPartRequest request, RequestBody body) {
+        write(uploadDir(request.uploadId()).resolve(String.valueOf(request.partNumber())), body);
+        return UploadPartResponse.builder().eTag("\"part-" + request.partNumber() + "\"").build();
+    }
+
+    @Override
+    public CompleteMultipartUploadResponse completeMultipartUpload(CompleteMultipartUploadRequest request) {
+        Path dir = uploadDir(request.uploadId());
+        Path target = objectPath(request.bucket(), request.key());
+        try {
+            Files.createDirectories(target.getParent());
+            try (OutputStream out = Files.newOutputStream(target)) {
+                for (CompletedPart part : request.multipartUpload().parts()) {
+                    Files.copy(dir.resolve(String.valueOf(part.partNumber())), out);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        removeUpload(request.uploadId());
+        completedMultipartUploads.incrementAndGet();
+        return CompleteMultipartUploadResponse.builder()
+            .bucket(request.bucket())
+            .key(request.key())
+            .build();
+    }
+
+    @Override
+    public AbortMultipartUploadResponse abortMultipartUpload(AbortMultipartUploadRequest request) {
+        removeUpload(request.uploadId());
+        return AbortMultipartUploadResponse.builder().build();
+    }
+
+    @Override
+    public DeleteObjectResponse deleteObject(DeleteObjectRequest request) {
+        try {
+            Files.deleteIfExists(objectPath(request.bucket(), request.key()));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return DeleteObjectResponse.builder().build();
+    }
+
+    @Override
+    public String serviceName() {
+        return SERVICE_NAME;
+    }
+
+    @Override
+    public void close() {
+    }
+
+    private Path uploadDir(String uploadId) {
+        Path dir = uploads.get(uploadId);
+        if (dir == null) {
+            throw NoSuchUploadException.builder().message("업로드 없음: " + uploadId).build();
+        }
+        return dir;
+    }
+
+    private void removeUpload(String uploadId) {
+        Path dir = uploads.remove(uploadId);
+        if (dir == null) {
+            return;
+        }
+        try (var files = Files.walk(dir)) {
+            for (Path path : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(path);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void write(Path target, RequestBody body) {
+        try {
+            Files.createDirectories(target.getParent());
+            try (InputStream in = body.contentStreamProvider().newStream()) {
+                Files.copy(in, target, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.gdg.sprint.team1.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import com.gdg.sprint.team1.dto.order.CreateOrderResponse;
+import com.gdg.sprint.team1.exception.IdempotencyKeyReusedException;
+import com.gdg.sprint.team1.exception.InsufficientStockException;
+
+/**
+ * 노드 로컬 저장소 동작만 확인합니다 (DB UNIQUE 제약 대체 경로는 OrderService 가 필요해 제외).
+ */
+class OrderIdempotencyServiceTests {
+
+    private final OrderIdempotencyService service =
+        new OrderIdempotencyService(null, new SimpleMeterRegistry(), 100, 60);
+    private final AtomicInteger creates = new AtomicInteger();
+
+    @Test
+    void retryWithSameKeyReturnsFirstResponseWithoutCreating() {
+        var first = service.execute(1, "key-1", request(5), this::create);
+        var retry = service.execute(1, "key-1", request(5), this::create);
+
+        assertThat(first.replayed()).isFalse();
+        assertThat(retry.replayed()).isTrue();
+        assertThat(retry.response()).isSameAs(first.response());
+        assertThat(creates).hasValue(1);
+    }
+
+    @Test
+    void sameKeyWithDifferentBodyIsRejected() {
+        service.execute(1, "key-1", request(5), this::create);
+
+        assertThatThrownBy(() -> service.execute(1, "key-1", request(6), this::create))
+            .isInstanceOf(IdempotencyKeyReusedException.class);
+        assertThat(creates).hasValue(1);
+    }
+
+    @Test
+    void keysAreScopedPerUser() {
+        service.execute(1, "key-1", request(5), this::create);
+        var other = service.execute(2, "key-1", request(5), this::create);
+
+        assertThat(other.replayed()).isFalse();
+        assertThat(creates).hasValue(2);
+    }
+
+    @Test
+    void failedRequestCanBeRetriedWithSameKey() {
+        assertThatThrownBy(() -> service.execute(1, "key-1", request(5), () -> {
+            throw new InsufficientStockException("상품", 2, 1);
+        })).isInstanceOf(InsufficientStockException.class);
+
+        var retry = service.execute(1, "key-1", request(5), this::create);
+
+        assertThat(retry.replayed()).isFalse();
+        assertThat(creates).hasValue(1);
+    }
+
+    @Test
+    void withoutKeyEveryRequestCreates() {
+        service.execute(1, null, request(5), this::create);
+        service.execute(1, null, request(5), this::create);
+
+        assertThat(creates).hasValue(2);
+    }
+
+    private CreateOrderResponse create() {
+        creates.incrementAndGet();
+        return new CreateOrderResponse(null, List.of(), null);
+    }
+
+    /** 요청 본문 대용 (record equals 로 비교) */
+    private record Body(int quantity) {}
+
+    private static Body request(int quantity) {
+        return new Body(quantity);
+    }
+}
@@ -0,0 +1,128 @@
+package com.gdg.sprint.team1.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import com.gdg.sprint.team1.domain.pricing.CouponVerdict;
+import com.gdg.sprint.team1.domain.pricing.Money;
+import com.gdg.sprint.team1.domain.pricing.PriceQuote;
+import com.gdg.sprint.team1.dto.pricing.CouponInfo;
+import com.gdg.sprint.team1.dto.pricing.CouponType;
+import com.gdg.sprint.team1.dto.pricing.PriceCalculationResult;
+import com.gdg.sprint.team1.dto.pricing.PriceItem;
+
+/**
+ * Money 기반 계산이 기존 BigDecimal 계산과 같은 금액을 내는지 고정 시드 무작위 입력으로 비교합니다.
+ * 실패 시 메시지의 시드/회차로 같은 입력을 재현할 수 있습니다.
+ */
+class PriceCalculationServiceTests {
+
+    private static final long SEED = 20260101L;
+    private static final int RUNS = 20_000;
+
+    private final PriceCalculationService service = new PriceCalculationService();
+    private final BigDecimalPriceCalculation reference = new BigDecimalPriceCalculation();
+
+    @Test
+    void matchesBigDecimalCalculationForRandomCartsAndCoupons() {
+        Random random = new Random(SEED);
+        for (int run = 0; run < RUNS; run++) {
+            List<PriceItem> items = randomItems(random);
+            CouponInfo coupon = randomCoupon(random);
+
+            PriceCalculationResult expected = reference.calculateTotal(items, coupon);
+            PriceCalculationResult actual = service.calculateTotal(items, coupon);
+
+            String input = "seed=" + SEED + ", run=" + run + ", items=" + items + ", coupon=" + coupon;
+            assertThat(actual.totalProductPrice()).as(input).isEqualByComparingTo(expected.totalProductPrice());
+            assertThat(actual.discountAmount()).as(input).isEqualByComparingTo(expected.discountAmount());
+            assertThat(actual.deliveryFee()).as(input).isEqualByComparingTo(expected.deliveryFee());
+            assertThat(actual.finalPrice()).as(input).isEqualByComparingTo(expected.finalPrice());
+        }
+    }
+
+    @Test
+    void roundsHalfUpLikeBigDecimal() {
+        // 33333.33 * 0.1235(12.345% → 소수 4자리) = 4116.666... → 4116.67
+        List<PriceItem> items = List.of(new PriceItem(1L, new BigDecimal("33333.33"), 1));
+        CouponInfo coupon = new CouponInfo(CouponType.PERCENTAGE, new BigDecimal("12.345"), BigDecimal.ZERO);
+
+        PriceCalculationResult result = service.calculateTotal(items, coupon);
+
+        assertThat(result.discountAmount()).isEqualByComparingTo("4116.67");
+        assertThat(result.deliveryFee()).isEqualByComparingTo("0");
+    }
+
+    @Test
+    void minimumOrderPriceWithMoreThanTwoDecimalsIsComparedExactly() {
+        List<PriceItem> items = List.of(new PriceItem(1L, new BigDecimal("10000.00"), 1));
+        CouponInfo coupon = new CouponInfo(CouponType.FIXED, new BigDecimal("1000"), new BigDecimal("10000.001"));
+
+        PriceCalculationResult result = service.calculateTotal(items, coupon);
+
+        assertThat(result.discountAmount()).isEqualByComparingTo("0");
+    }
+
+    @Test
+    void quoteReportsMinimumOrderNotMetWithoutDiscount() {
+        List<PriceItem> items = List.of(new PriceItem(1L, new BigDecimal("9000.00"), 1));
+        CouponInfo coupon = new CouponInfo(CouponType.FIXED, new BigDecimal("1000"), new BigDecimal("10000"));
+
+        PriceQuote quote = service.quote(items, coupon);
+
+        assertThat(quote.couponVerdict()).isEqualTo(CouponVerdict.MIN_ORDER_NOT_MET);
+        assertThat(quote.discount().calculated()).isEqualTo(Money.won(1000));
+        assertThat(quote.discountAmount()).isEqualTo(Money.ZERO);
+    }
+
+    @Test
+    void quoteCapsDiscountAtProductTotal() {
+        List<PriceItem> items = List.of(new PriceItem(1L, new BigDecimal("2000.00"), 1));
+        CouponInfo coupon = new CouponInfo(CouponType.FIXED, new BigDecimal("5000"), null);
+
+        PriceQuote quote = service.quote(items, coupon);
+
+        assertThat(quote.couponVerdict()).isEqualTo(CouponVerdict.APPLIED);
+        assertThat(quote.discount().isCapped()).isTrue();
+        assertThat(quote.discountAmount()).isEqualTo(Money.won(2000));
+        assertThat(quote.finalPrice()).isEqualTo(Money.won(3000));
+    }
+
+    private static List<PriceItem> randomItems(Random random) {
+        int count = random.nextInt(6);
+        List<PriceItem> items = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            items.add(new PriceItem((long) i + 1, randomAmount(random, 200_000), 1 + random.nextInt(10)));
+        }
+        return items;
+    }
+
+    private static CouponInfo randomCoupon(Random random) {
+        return switch (random.nextInt(3)) {
+            case 0 -> null;
+            case 1 -> new CouponInfo(
+                CouponType.PERCENTAGE,
+                BigDecimal.valueOf(random.nextInt(100_001), 3),   // 0.000 ~ 100.000 %
+                random.nextBoolean() ? null : randomAmount(random, 100_000)
+            );
+            default -> new CouponInfo(
+                CouponType.FIXED,
+                randomAmount(random, 60_000),
+                random.nextBoolean() ? null : randomAmount(random, 100_000)
+            );
+        };
+    }
+
+    /** 0 ~ max 원, 소수 0~3자리 (단가 반올림 경계 포함) */
+    private static BigDecimal randomAmount(Random random, int max) {
+        int scale = random.nextInt(4);
+        long unscaled = (long) (random.nextDouble() * max * Math.pow(10, scale));
+        return BigDecimal.valueOf(unscaled, scale);
+    }
+}
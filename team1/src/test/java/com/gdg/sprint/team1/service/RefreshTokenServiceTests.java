@@ -0,0 +1,120 @@
+package com.gdg.sprint.team1.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import com.gdg.sprint.team1.cache.InMemoryRemoteCache;
+import com.gdg.sprint.team1.cache.RefreshTokenRevocationIndex;
+import com.gdg.sprint.team1.config.JwtProperties;
+import com.gdg.sprint.team1.entity.RefreshToken;
+import com.gdg.sprint.team1.repository.RefreshTokenRepository;
+
+/**
+ * refresh token 회전 결과와 폐기 색인 기록 시점을 확인합니다. DB 는 mock 으로 대신합니다
+ * (회전 UPDATE 자체는 RefreshTokenMigrationTests 에서 MySQL 로 확인).
+ */
+class RefreshTokenServiceTests {
+
+    private static final Integer USER_ID = 1;
+    private static final String OLD_TOKEN = "header.old-refresh-token.signature";
+    private static final String NEW_TOKEN = "header.new-refresh-token.signature";
+
+    private final RefreshTokenRepository repository = mock(RefreshTokenRepository.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private RefreshTokenService service;
+
+    @BeforeEach
+    void setUp() {
+        RefreshTokenRevocationIndex index = new RefreshTokenRevocationIndex(
+            new InMemoryRemoteCache(1_000), new JwtProperties(), meterRegistry, 1_000);
+        service = new RefreshTokenService(repository, index, new JwtProperties(), meterRegistry, 1_000);
+    }
+
+    @AfterEach
+    void clearSynchronization() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void secondRotateOfSameTokenReturnsFalse() {
+        // 첫 회전에서 digest 가 바뀌므로 같은 oldHash 로 다시 UPDATE 하면 0 건
+        when(repository.rotate(eq(RefreshToken.hashOf(OLD_TOKEN)), anyString(), eq(USER_ID), any(), any()))
+            .thenReturn(1, 0);
+
+        assertThat(service.rotate(USER_ID, OLD_TOKEN, NEW_TOKEN)).isTrue();
+        assertThat(service.rotate(USER_ID, OLD_TOKEN, "header.other-refresh-token.signature")).isFalse();
+        assertThat(meterRegistry.counter("auth.refresh.rotations", "result", "not_found").count()).isEqualTo(1);
+    }
+
+    @Test
+    void replayedTokenIsRejectedByIndexWithoutDatabase() {
+        when(repository.rotate(anyString(), anyString(), any(), any(), any())).thenReturn(1);
+        service.rotate(USER_ID, OLD_TOKEN, NEW_TOKEN);
+
+        assertThat(service.isRevoked(OLD_TOKEN)).isTrue();
+        assertThat(service.isRevoked(NEW_TOKEN)).isFalse();
+        verify(repository, times(1)).rotate(anyString(), anyString(), any(), any(), any());
+        verifyNoMoreInteractions(repository);
+    }
+
+    @Test
+    void failedRotateRevokesTokenImmediately() {
+        when(repository.rotate(anyString(), anyString(), any(), any(), any())).thenReturn(0);
+
+        assertThat(service.rotate(USER_ID, OLD_TOKEN, NEW_TOKEN)).isFalse();
+        assertThat(service.isRevoked(OLD_TOKEN)).isTrue();
+    }
+
+    @Test
+    void rolledBackRotationDoesNotRevokeOldToken() {
+        when(repository.rotate(anyString(), anyString(), any(), any(), any())).thenReturn(1);
+        TransactionSynchronizationManager.initSynchronization();
+
+        assertThat(service.rotate(USER_ID, OLD_TOKEN, NEW_TOKEN)).isTrue();
+        assertThat(service.isRevoked(OLD_TOKEN)).isFalse();
+
+        complete(TransactionSynchronization.STATUS_ROLLED_BACK);
+        assertThat(service.isRevoked(OLD_TOKEN)).isFalse();
+    }
+
+    @Test
+    void committedRotationRevokesOldTokenAfterCommit() {
+        when(repository.rotate(anyString(), anyString(), any(), any(), any())).thenReturn(1);
+        TransactionSynchronizationManager.initSynchronization();
+
+        service.rotate(USER_ID, OLD_TOKEN, NEW_TOKEN);
+        assertThat(service.isRevoked(OLD_TOKEN)).isFalse();
+
+        complete(TransactionSynchronization.STATUS_COMMITTED);
+        assertThat(service.isRevoked(OLD_TOKEN)).isTrue();
+    }
+
+    // 트랜잭션 매니저가 완료 시 호출하는 순서대로 등록된 synchronization 을 실행
+    private static void complete(int status) {
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        if (status == TransactionSynchronization.STATUS_COMMITTED) {
+            synchronizations.forEach(TransactionSynchronization::afterCommit);
+        }
+        synchronizations.forEach(synchronization -> synchronization.afterCompletion(status));
+    }
+}
@@ -0,0 +1,108 @@
+package com.gdg.sprint.team1.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.mock.web.MockMultipartFile;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * 파일 시스템 S3Client(LocalFileS3Client)로 업로드 경로(단일 put / 멀티파트)와 삭제 대기열을 확인합니다.
+ */
+class S3ServiceTests {
+
+    private static final String BUCKET = "test-bucket";
+    private static final int MB = 1024 * 1024;
+
+    @TempDir
+    Path root;
+
+    private LocalFileS3Client s3Client;
+    private S3Service s3Service;
+
+    @BeforeEach
+    void setUp() {
+        s3Client = new LocalFileS3Client(root);
+        s3Service = new S3Service(s3Client, new SimpleMeterRegistry(), BUCKET, "ap-northeast-2",
+            2, 4, 10, 5 * MB, 5 * MB);
+    }
+
+    @AfterEach
+    void tearDown() {
+        s3Service.shutdown();
+    }
+
+    @Test
+    void smallFileIsUploadedWithSinglePut() throws IOException {
+        byte[] content = randomBytes(100 * 1024);
+
+        String url = s3Service.uploadFile(image("small.png", content));
+
+        assertThat(url).startsWith("https://" + BUCKET + ".s3.ap-northeast-2.amazonaws.com/").endsWith("_small.png");
+        assertThat(Files.readAllBytes(stored(url))).isEqualTo(content);
+        assertThat(s3Client.completedMultipartUploads()).isZero();
+    }
+
+    @Test
+    void largeFileIsUploadedInParts() throws IOException {
+        byte[] content = randomBytes(7 * MB + 123);
+
+        String url = s3Service.uploadFile(image("large.jpg", content));
+
+        assertThat(Files.readAllBytes(stored(url))).isEqualTo(content);
+        assertThat(s3Client.completedMultipartUploads()).isEqualTo(1);
+        assertThat(s3Client.pendingMultipartUploads()).isZero();
+    }
+
+    @Test
+    void missingFileReturnsNull() {
+        assertThat(s3Service.uploadFile(null)).isNull();
+        assertThat(s3Service.uploadFile(image("empty.png", new byte[0]))).isNull();
+    }
+
+    @Test
+    void nonImageIsRejectedBeforeUpload() {
+        MockMultipartFile text = new MockMultipartFile("image", "a.txt", "text/plain", randomBytes(10));
+
+        assertThatThrownBy(() -> s3Service.uploadFile(text)).isInstanceOf(IllegalArgumentException.class);
+        assertThat(root).isEmptyDirectory();
+    }
+
+    @Test
+    void deleteLaterRemovesObjectOnNextCleanup() {
+        String url = s3Service.uploadFile(image("old.webp", randomBytes(1024)));
+
+        s3Service.deleteLater(url);
+        assertThat(stored(url)).exists();
+
+        s3Service.processDeletions();
+        assertThat(stored(url)).doesNotExist();
+    }
+
+    private Path stored(String url) {
+        return s3Client.objectPath(BUCKET, url.substring(url.lastIndexOf('/') + 1));
+    }
+
+    private static MockMultipartFile image(String filename, byte[] content) {
+        String contentType = filename.endsWith(".png") ? "image/png"
+            : filename.endsWith(".webp") ? "image/webp"
+            : "image/jpeg";
+        return new MockMultipartFile("image", filename, contentType, content);
+    }
+
+    private static byte[] randomBytes(int size) {
+        byte[] bytes = new byte[size];
+        new Random(size).nextBytes(bytes);
+        return bytes;
+    }
+}